@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+#
+# Records an AppCDS archive for an AOT-processed application jar.
+#
+# Extracts the jar into target/cds (application jar plus lib/, the layout CDS
+# needs), then starts it once with -XX:ArchiveClassesAtExit and
+# spring.context.exit=onRefresh: the context is built, every class loaded on
+# the way is dumped into the archive, and the JVM exits before any runner,
+# scheduler or ApplicationReadyEvent listener touches the database. Schema
+# update is switched off for the run, so no database is needed, and the run
+# signs nothing, so it uses an ephemeral JWT key instead of a key directory.
+#
+# Usage: scripts/cds-archive.sh <application jar>
+# Env:   JAVA (default java)
+set -euo pipefail
+
+JAR=${1:?usage: $0 <application jar>}
+JAVA=${JAVA:-java}
+OUT="$(dirname "${JAR}")/cds"
+
+rm -rf "${OUT}"
+"${JAVA}" -Djarmode=tools -jar "${JAR}" extract --destination "${OUT}"
+
+"${JAVA}" -XX:ArchiveClassesAtExit="${OUT}/twine.jsa" \
+    -Dspring.aot.enabled=true \
+    -Dspring.context.exit=onRefresh \
+    -jar "${OUT}/$(basename "${JAR}")" \
+    --spring.jpa.hibernate.ddl-auto=none \
+    --jwt.keys.allow-ephemeral=true \
+    --logging.level.root=WARN \
+    --logging.level.com.twine=WARN \
+    > "${OUT}/training.log" 2>&1
+
+echo "CDS archive: ${OUT}/twine.jsa ($(du -h "${OUT}/twine.jsa" | cut -f1))"
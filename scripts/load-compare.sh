@@ -0,0 +1,78 @@
+#!/usr/bin/env bash
+#
+# Load comparison of platform-thread and virtual-thread request handling.
+#
+# Builds the Java 21 jar, then starts the service once per mode against the
+# database configured in application.yml and drives the same I/O-bound
+# endpoint (refresh with an unknown token: one indexed lookup, then 401) with
+# `hey` (https://github.com/rakyll/hey). Rate limiting is switched off for the
+# run. Prints requests/s and latency percentiles per mode.
+#
+# Usage: scripts/load-compare.sh [concurrency] [duration]
+#   e.g. scripts/load-compare.sh 800 60s
+# Env:   PORT (default 8080), DB_POOL_SIZE (virtual mode pool, default 20),
+#        JAVA (default java; must be 21 or later)
+set -euo pipefail
+
+CONCURRENCY=${1:-400}
+DURATION=${2:-30s}
+PORT=${PORT:-8080}
+JAVA=${JAVA:-java}
+URL="http://localhost:${PORT}/twine/api/v1/auth/refresh"
+BODY='{"refreshToken":"load-compare-unknown-token"}'
+
+cd "$(dirname "$0")/.."
+command -v hey >/dev/null || { echo "hey is required: go install github.com/rakyll/hey@latest" >&2; exit 1; }
+
+./mvnw -q -B -Pjava21 -DskipTests package
+JAR=$(ls target/twine-backend-*.jar | grep -v plain | head -n 1)
+
+app_pid=
+cleanup() {
+    if [[ -n "${app_pid}" ]]; then
+        kill "${app_pid}" 2>/dev/null || true
+        wait "${app_pid}" 2>/dev/null || true
+    fi
+}
+trap cleanup EXIT
+
+run_mode() {
+    local mode=$1 profiles=$2
+    "${JAVA}" -jar "${JAR}" \
+        --spring.profiles.active="${profiles}" \
+        --server.port="${PORT}" \
+        --rate-limit.enabled=false \
+        --logging.level.root=WARN \
+        --logging.level.org.springframework=WARN \
+        --logging.level.com.twine=WARN \
+        > "target/load-${mode}.log" 2>&1 &
+    app_pid=$!
+
+    for _ in $(seq 1 60); do
+        if [[ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:${PORT}/twine/" || true)" != "000" ]]; then
+            break
+        fi
+        sleep 1
+    done
+
+    # Warm up the JIT and the connection pool before measuring
+    hey -z 10s -c "${CONCURRENCY}" -m POST -T application/json -d "${BODY}" "${URL}" > /dev/null
+    hey -z "${DURATION}" -c "${CONCURRENCY}" -m POST -T application/json -d "${BODY}" "${URL}" \
+        > "target/load-${mode}.txt"
+
+    printf '%-9s %12s %10s %10s %10s\n' "${mode}" \
+        "$(awk '/Requests\/sec/ {print $2}' "target/load-${mode}.txt")" \
+        "$(awk '/ 50% in/ {print $3}' "target/load-${mode}.txt")" \
+        "$(awk '/ 99% in/ {print $3}' "target/load-${mode}.txt")" \
+        "$(awk '/^[[:space:]]*\[5[0-9][0-9]\]/ {n += $2} END {print n + 0}' "target/load-${mode}.txt")"
+
+    cleanup
+    app_pid=
+}
+
+echo "concurrency=${CONCURRENCY} duration=${DURATION} url=${URL}"
+printf '%-9s %12s %10s %10s %10s\n' mode "req/s" "p50 (s)" "p99 (s)" "5xx"
+run_mode platform default
+run_mode virtual virtual
+echo "Full reports: target/load-platform.txt, target/load-virtual.txt"
+echo "Pinning reports (virtual mode): grep -A12 'pinned its carrier' target/load-virtual.log"
@@ -0,0 +1,113 @@
+#!/usr/bin/env bash
+#
+# Startup and first-request latency check for the fast-start builds.
+#
+# Starts the AOT + CDS jar (mode jvm, from target/cds) or the native image
+# (mode native, target/twine) against the database configured in
+# application.yml, measures the wall time until the HTTP port accepts
+# connections, then times the first request to the JWKS endpoint (no
+# database) and the first refresh with an unknown token (Jackson, validation
+# and one indexed query, answered with 401). Fails if startup or either first
+# request exceeds its budget. Results go to target/startup-<mode>.txt.
+# Without JWT_KEYS_LOCATION a throwaway P-256 key pair is generated with
+# openssl into target/startup-keys.
+#
+# Usage: scripts/startup-check.sh jvm|native
+# Env:   PORT (default 8080), JAVA (default java), JWT_KEYS_LOCATION,
+#        STARTUP_MAX_MILLIS (default 8000), FIRST_REQUEST_MAX_MILLIS (default 500)
+set -euo pipefail
+
+MODE=${1:?usage: $0 jvm|native}
+PORT=${PORT:-8080}
+JAVA=${JAVA:-java}
+STARTUP_MAX_MILLIS=${STARTUP_MAX_MILLIS:-8000}
+FIRST_REQUEST_MAX_MILLIS=${FIRST_REQUEST_MAX_MILLIS:-500}
+BASE_URL="http://localhost:${PORT}/twine"
+
+cd "$(dirname "$0")/.."
+case "${MODE}" in
+    jvm)
+        JAR=$(ls target/cds/twine-backend-*.jar | head -n 1)
+        COMMAND=("${JAVA}" -XX:SharedArchiveFile=target/cds/twine.jsa -Xshare:auto
+            -Dspring.aot.enabled=true -jar "${JAR}")
+        ;;
+    native)
+        COMMAND=(target/twine)
+        ;;
+    *)
+        echo "Unknown mode: ${MODE}" >&2
+        exit 2
+        ;;
+esac
+
+if [[ -z "${JWT_KEYS_LOCATION:-}" ]]; then
+    JWT_KEYS_LOCATION=target/startup-keys
+    rm -rf "${JWT_KEYS_LOCATION}"
+    mkdir -p "${JWT_KEYS_LOCATION}"
+    openssl genpkey -algorithm EC -pkeyopt ec_paramgen_curve:P-256 -out "${JWT_KEYS_LOCATION}/startup-check.key"
+    openssl pkey -in "${JWT_KEYS_LOCATION}/startup-check.key" -pubout -out "${JWT_KEYS_LOCATION}/startup-check.pub"
+fi
+
+LOG="target/startup-${MODE}.log"
+REPORT="target/startup-${MODE}.txt"
+
+app_pid=
+cleanup() {
+    if [[ -n "${app_pid}" ]]; then
+        kill "${app_pid}" 2>/dev/null || true
+        wait "${app_pid}" 2>/dev/null || true
+    fi
+}
+trap cleanup EXIT
+
+millis() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+started_at=$(millis)
+"${COMMAND[@]}" --server.port="${PORT}" --jwt.keys.location="${JWT_KEYS_LOCATION}" > "${LOG}" 2>&1 &
+app_pid=$!
+
+until (exec 3<>"/dev/tcp/localhost/${PORT}") 2>/dev/null; do
+    if ! kill -0 "${app_pid}" 2>/dev/null; then
+        echo "Application exited during startup; last log lines:" >&2
+        tail -n 40 "${LOG}" >&2
+        exit 1
+    fi
+    if (( $(millis) - started_at > 60000 )); then
+        echo "Application did not open port ${PORT} within 60s" >&2
+        exit 1
+    fi
+    sleep 0.01
+done
+startup_millis=$(( $(millis) - started_at ))
+
+# curl reports seconds; convert to whole milliseconds
+request_millis() {
+    awk '{printf "%d", $1 * 1000}' <<< "$(curl -s -o /dev/null -w '%{time_total}' "$@")"
+}
+jwks_millis=$(request_millis "${BASE_URL}/.well-known/jwks.json")
+refresh_millis=$(request_millis -X POST -H 'Content-Type: application/json' \
+    -d '{"refreshToken":"startup-check-unknown-token"}' "${BASE_URL}/api/v1/auth/refresh")
+spring_started=$(grep -o 'Started [A-Za-z]* in [0-9.]* seconds' "${LOG}" | head -n 1 || true)
+
+{
+    echo "mode=${MODE}"
+    echo "port-open-ms=${startup_millis} (budget ${STARTUP_MAX_MILLIS})"
+    echo "first-jwks-request-ms=${jwks_millis} (budget ${FIRST_REQUEST_MAX_MILLIS})"
+    echo "first-refresh-request-ms=${refresh_millis} (budget ${FIRST_REQUEST_MAX_MILLIS})"
+    echo "spring: ${spring_started:-n/a}"
+} | tee "${REPORT}"
+
+status=0
+if (( startup_millis > STARTUP_MAX_MILLIS )); then
+    echo "Startup took ${startup_millis}ms, over the ${STARTUP_MAX_MILLIS}ms budget" >&2
+    status=1
+fi
+for first_request_millis in "${jwks_millis}" "${refresh_millis}"; do
+    if (( first_request_millis > FIRST_REQUEST_MAX_MILLIS )); then
+        echo "A first request took ${first_request_millis}ms, over the ${FIRST_REQUEST_MAX_MILLIS}ms budget" >&2
+        status=1
+    fi
+done
+exit "${status}"
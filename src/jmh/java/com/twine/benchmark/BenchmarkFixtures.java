@@ -0,0 +1,117 @@
+package com.twine.benchmark;
+
+import com.twine.entity.AuthUser;
+import com.twine.entity.Role;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Shared fixtures for wiring application components outside of a Spring
+ * context in benchmarks.
+ */
+public final class BenchmarkFixtures {
+    private BenchmarkFixtures() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static final String SAMPLE_EMAIL = "benchmark@twine.com";
+
+    /**
+     * Creates an in-memory stand-in for a Spring Data repository: {@code save}
+     * returns its argument and every other method returns an empty result.
+     *
+     * @param repositoryType the repository interface
+     * @param <T>            the repository type
+     * @return the repository stub
+     */
+    public static <T> T repositoryStub(Class<T> repositoryType) {
+        return repositoryType.cast(Proxy.newProxyInstance(
+                repositoryType.getClassLoader(),
+                new Class<?>[] { repositoryType },
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("save")) {
+                        return args[0];
+                    }
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == Optional.class) {
+                        return Optional.empty();
+                    }
+                    if (returnType == List.class) {
+                        return List.of();
+                    }
+                    if (returnType == boolean.class) {
+                        return false;
+                    }
+                    if (returnType == int.class || returnType == long.class) {
+                        return 0;
+                    }
+                    if (method.getDeclaringClass() == Object.class) {
+                        return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+                    }
+                    return null;
+                }));
+    }
+
+    /**
+     * Creates a transaction template whose transactions do nothing.
+     *
+     * @return the transaction template
+     */
+    public static TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                // Nothing to commit
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                // Nothing to roll back
+            }
+        });
+    }
+
+    /**
+     * Sets a field normally injected by Spring, such as an {@code @Value} field.
+     *
+     * @param target    the object to modify
+     * @param fieldName the field name
+     * @param value     the value to set
+     */
+    public static void setField(Object target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        if (field == null) {
+            throw new IllegalArgumentException("No field " + fieldName + " on " + target.getClass());
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    /**
+     * Creates a persisted-looking user to issue tokens for.
+     *
+     * @return the sample user
+     */
+    public static AuthUser sampleUser() {
+        return AuthUser.builder()
+                .id(42L)
+                .email(SAMPLE_EMAIL)
+                .password("{noop}unused")
+                .role(Role.USER)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.twine.mail;
+
+import com.twine.benchmark.BenchmarkFixtures;
+import com.twine.config.ThymeleafConfig;
+import com.twine.constants.OtpConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of producing the wire bytes of one OTP email: the previous path
+ * (uncached Thymeleaf and a multipart message per send), the Thymeleaf
+ * fallback with template caching, and the precompiled skeleton.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OtpEmailRendererBenchmark {
+
+    private static final String OTP = "123456";
+
+    private JavaMailSenderImpl mailSender;
+    private TemplateEngine uncachedTemplateEngine;
+    private OtpEmailRenderer renderer;
+
+    @Setup
+    public void setUp() {
+        mailSender = new JavaMailSenderImpl();
+        renderer = new OtpEmailRenderer(mailSender, new ThymeleafConfig().emailTemplateEngine(),
+                new SimpleMeterRegistry());
+        if (!renderer.isPrecompiled()) {
+            throw new IllegalStateException("OTP email skeleton failed to precompile");
+        }
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(false);
+        uncachedTemplateEngine = new TemplateEngine();
+        uncachedTemplateEngine.addTemplateResolver(resolver);
+    }
+
+    @Benchmark
+    public MimeMessage uncachedThymeleaf() throws MessagingException, IOException {
+        Context context = new Context();
+        context.setVariable("otp", OTP);
+        String content = uncachedTemplateEngine.process(OtpConstants.OTP_EMAIL_TEMPLATE, context);
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(BenchmarkFixtures.SAMPLE_EMAIL);
+        helper.setSubject(OtpConstants.EMAIL_SUBJECT);
+        helper.setText(content, true);
+        return writeOut(message);
+    }
+
+    @Benchmark
+    public MimeMessage cachedThymeleaf() throws MessagingException, IOException {
+        return writeOut(renderer.createMessage(OtpConstants.OTP_EMAIL_TEMPLATE, Map.of("otp", OTP),
+                BenchmarkFixtures.SAMPLE_EMAIL, OtpConstants.EMAIL_SUBJECT));
+    }
+
+    @Benchmark
+    public MimeMessage precompiled() throws MessagingException, IOException {
+        return writeOut(renderer.createOtpMessage(BenchmarkFixtures.SAMPLE_EMAIL, OTP));
+    }
+
+    /**
+     * Finalizes and serializes the message the way a transport would.
+     */
+    private static MimeMessage writeOut(MimeMessage message) throws MessagingException, IOException {
+        message.saveChanges();
+        message.writeTo(OutputStream.nullOutputStream());
+        return message;
+    }
+}
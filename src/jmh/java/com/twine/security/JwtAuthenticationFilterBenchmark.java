@@ -0,0 +1,68 @@
+package com.twine.security;
+
+import com.twine.benchmark.BenchmarkFixtures;
+import com.twine.constants.AuthConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link JwtAuthenticationFilter#doFilterInternal} for an
+ * authenticated request against a no-op filter chain.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean cacheEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+
+    @Setup
+    public void setUp(Blackhole blackhole) throws Exception {
+        JwtService jwtService = JwtBenchmarkSupport.jwtService(cacheEnabled);
+        filter = new JwtAuthenticationFilter(jwtService,
+                JwtBenchmarkSupport.tokenVersionRegistry(),
+                JwtBenchmarkSupport.tokenRevocationService(),
+                new SimpleMeterRegistry());
+
+        request = new MockHttpServletRequest("GET", "/api/v1/profile");
+        request.addHeader(AuthConstants.AUTHORIZATION_HEADER,
+                AuthConstants.BEARER_PREFIX + jwtService.generateToken(AuthPrincipal.from(BenchmarkFixtures.sampleUser())));
+        response = new MockHttpServletResponse();
+        filterChain = (req, res) -> blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Benchmark
+    public void doFilterInternal() throws Exception {
+        try {
+            filter.doFilterInternal(request, response, filterChain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
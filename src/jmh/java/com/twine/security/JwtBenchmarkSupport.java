@@ -0,0 +1,35 @@
+package com.twine.security;
+
+import com.twine.benchmark.BenchmarkFixtures;
+import com.twine.repository.AuthUserRepository;
+import com.twine.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Builds the JWT components the way the application context does, without
+ * starting Spring.
+ */
+final class JwtBenchmarkSupport {
+    private JwtBenchmarkSupport() {
+        // Private constructor to prevent instantiation
+    }
+
+    static final long EXPIRATION_MILLIS = 900_000L;
+
+    static JwtService jwtService(boolean cacheEnabled) throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(cacheEnabled, 10_000, 300_000, new SimpleMeterRegistry());
+        JwtService jwtService = new JwtService(cache, new JwtKeyRing("", true), new SimpleMeterRegistry());
+        BenchmarkFixtures.setField(jwtService, "jwtExpiration", EXPIRATION_MILLIS);
+        jwtService.init();
+        return jwtService;
+    }
+
+    static TokenVersionRegistry tokenVersionRegistry() {
+        return new TokenVersionRegistry(BenchmarkFixtures.repositoryStub(AuthUserRepository.class));
+    }
+
+    static TokenRevocationService tokenRevocationService() {
+        return new TokenRevocationService(BenchmarkFixtures.repositoryStub(RevokedTokenRepository.class),
+                new SimpleMeterRegistry(), 100_000, 0.01, 10_000);
+    }
+}
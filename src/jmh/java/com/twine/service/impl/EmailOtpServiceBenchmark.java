@@ -0,0 +1,104 @@
+package com.twine.service.impl;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.twine.benchmark.BenchmarkFixtures;
+import com.twine.config.ThymeleafConfig;
+import com.twine.constants.OtpConstants;
+import com.twine.mail.OtpEmailRenderer;
+import com.twine.repository.OtpRepository;
+import com.twine.service.IEmailOutboxService;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of OTP generation and OTP email rendering with the outbox and the
+ * SMTP transport replaced by no-ops, so only CPU and allocation cost is
+ * measured. The OTP service and sender log every OTP at INFO, so their loggers
+ * are raised to WARN to keep console output out of the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailOtpServiceBenchmark {
+
+    private EmailOtpServiceImpl otpService;
+    private SmtpOtpEmailSenderImpl otpEmailSender;
+
+    @Setup
+    public void setUp() {
+        quietLogger(EmailOtpServiceImpl.class);
+        quietLogger(SmtpOtpEmailSenderImpl.class);
+        otpService = new EmailOtpServiceImpl(
+                new JpaOtpStoreImpl(BenchmarkFixtures.repositoryStub(OtpRepository.class),
+                        new SimpleMeterRegistry(), 5, 1000, 3600000),
+                new NoopEmailOutboxService(),
+                BenchmarkFixtures.transactionTemplate(),
+                OtpConstants.OTP_STORE_JPA,
+                60000);
+        NoopMailSender mailSender = new NoopMailSender();
+        otpEmailSender = new SmtpOtpEmailSenderImpl(
+                mailSender,
+                new OtpEmailRenderer(mailSender, new ThymeleafConfig().emailTemplateEngine(),
+                        new SimpleMeterRegistry()),
+                new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public void generateAndSendOtp() {
+        otpService.generateAndSendOtp(BenchmarkFixtures.SAMPLE_EMAIL);
+    }
+
+    @Benchmark
+    public void renderAndBuildOtpEmail() throws MessagingException {
+        otpEmailSender.sendOtpEmail(BenchmarkFixtures.SAMPLE_EMAIL, "123456");
+    }
+
+    private static void quietLogger(Class<?> type) {
+        ((Logger) LoggerFactory.getLogger(type)).setLevel(Level.WARN);
+    }
+
+    /**
+     * Outbox that accepts messages without storing them.
+     */
+    static final class NoopEmailOutboxService implements IEmailOutboxService {
+        @Override
+        public void enqueueOtpEmail(String recipientEmail, String otpValue, LocalDateTime expiresAt) {
+            // The benchmark measures OTP generation only
+        }
+
+        @Override
+        public int dispatch() {
+            return 0;
+        }
+    }
+
+    /**
+     * Mail sender that builds messages normally but never opens a transport.
+     */
+    static final class NoopMailSender extends JavaMailSenderImpl {
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+            // The benchmark measures rendering and MIME construction only
+        }
+    }
+}
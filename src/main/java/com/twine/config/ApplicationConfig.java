@@ -1,12 +1,16 @@
 package com.twine.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Application-wide configuration.
  */
 @Configuration
 @EnableJpaAuditing
+@EnableScheduling
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class ApplicationConfig {
-}
\ No newline at end of file
+}
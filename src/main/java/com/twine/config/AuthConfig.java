@@ -1,6 +1,13 @@
 package com.twine.config;
 
 import com.twine.repository.AuthUserRepository;
+import com.twine.security.AuthPrincipal;
+import com.twine.security.BoundedPasswordEncoder;
+import com.twine.security.PasswordHashingCalibrator;
+import com.twine.security.PasswordHashingExecutor;
+import com.twine.security.PrincipalCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,11 +15,14 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Configuration class for authentication-related beans in the Twine
  * application.
@@ -22,13 +32,17 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * including:
  * <ul>
  * <li>{@link org.springframework.security.core.userdetails.UserDetailsService}
- * - Loads user-specific data.</li>
+ * - Loads user-specific data through the {@link com.twine.security.PrincipalCache},
+ * timed as {@code twine.auth.user.load}.</li>
  * <li>{@link org.springframework.security.authentication.AuthenticationProvider}
  * - Handles authentication logic.</li>
  * <li>{@link org.springframework.security.authentication.AuthenticationManager}
  * - Manages authentication processes.</li>
+ * <li>{@link org.springframework.security.core.userdetails.UserDetailsPasswordService}
+ * - Persists rehashed passwords after a successful login.</li>
  * <li>{@link org.springframework.security.crypto.password.PasswordEncoder} -
- * Encodes and verifies passwords.</li>
+ * Encodes and verifies passwords with calibrated work factors on the bounded
+ * {@link com.twine.security.PasswordHashingExecutor}.</li>
  * </ul>
  * These beans are essential for Spring Security integration and are used
  * throughout
@@ -40,11 +54,22 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class AuthConfig {
 
     private final AuthUserRepository authUserRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final PasswordHashingCalibrator passwordHashingCalibrator;
+    private final PrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public UserDetailsService userDetailsService() {
-        return username -> authUserRepository.findByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        Timer foundTimer = userLoads("found");
+        Timer missingTimer = userLoads("missing");
+        return username -> {
+            long startedAt = System.nanoTime();
+            Optional<AuthPrincipal> principal = principalCache.get(username);
+            (principal.isPresent() ? foundTimer : missingTimer)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return principal.orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        };
     }
 
     @Bean
@@ -52,9 +77,20 @@ public class AuthConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService());
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService());
         return authProvider;
     }
 
+    @Bean
+    public UserDetailsPasswordService userDetailsPasswordService() {
+        return (user, newPassword) -> {
+            AuthPrincipal principal = (AuthPrincipal) user;
+            authUserRepository.updatePassword(principal.id(), newPassword);
+            principalCache.invalidate(principal.email());
+            return principal.withPassword(newPassword);
+        };
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
         return config.getAuthenticationManager();
@@ -62,6 +98,15 @@ public class AuthConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(passwordHashingCalibrator.createPasswordEncoder(), passwordHashingExecutor);
+    }
+
+    // --- Private Helper Methods ---
+
+    private Timer userLoads(String result) {
+        return Timer.builder("twine.auth.user.load")
+                .description("Time spent loading a user for login, including principal cache hits")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 }
\ No newline at end of file
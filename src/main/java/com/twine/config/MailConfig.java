@@ -0,0 +1,55 @@
+package com.twine.config;
+
+import com.twine.constants.OtpConstants;
+import com.twine.mail.PooledJavaMailSender;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Configuration of the application's
+ * {@link org.springframework.mail.javamail.JavaMailSender}.
+ * <p>
+ * Replaces Spring Boot's auto-configured sender with a
+ * {@link PooledJavaMailSender} built from the same {@code spring.mail.*}
+ * properties, so SMTP sessions are reused across sends.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfig {
+
+    @Bean
+    public PooledJavaMailSender mailSender(
+            MailProperties mailProperties,
+            MeterRegistry meterRegistry,
+            @Value("${" + OtpConstants.MAIL_POOL_SIZE_PROPERTY + ":4}") int poolSize,
+            @Value("${" + OtpConstants.MAIL_POOL_BORROW_TIMEOUT_PROPERTY + ":10000}") long borrowTimeoutMillis,
+            @Value("${" + OtpConstants.MAIL_POOL_MAX_IDLE_PROPERTY + ":60000}") long maxIdleMillis,
+            @Value("${" + OtpConstants.MAIL_POOL_VALIDATE_AFTER_IDLE_PROPERTY + ":5000}") long validateAfterIdleMillis,
+            @Value("${" + OtpConstants.MAIL_POOL_MAX_MESSAGES_PROPERTY + ":100}") int maxMessagesPerConnection) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(poolSize, Duration.ofMillis(borrowTimeoutMillis),
+                Duration.ofMillis(maxIdleMillis), Duration.ofMillis(validateAfterIdleMillis),
+                maxMessagesPerConnection, meterRegistry);
+        sender.setHost(mailProperties.getHost());
+        if (mailProperties.getPort() != null) {
+            sender.setPort(mailProperties.getPort());
+        }
+        sender.setUsername(mailProperties.getUsername());
+        sender.setPassword(mailProperties.getPassword());
+        sender.setProtocol(mailProperties.getProtocol());
+        if (mailProperties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(mailProperties.getDefaultEncoding().name());
+        }
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(mailProperties.getProperties());
+        sender.setJavaMailProperties(javaMailProperties);
+        return sender;
+    }
+}
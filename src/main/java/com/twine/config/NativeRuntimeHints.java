@@ -0,0 +1,88 @@
+package com.twine.config;
+
+import com.twine.dto.AuthenticationRequest;
+import com.twine.dto.AuthenticationResponse;
+import com.twine.dto.ErrorResponse;
+import com.twine.dto.InitiateRegistrationRequest;
+import com.twine.dto.InitiateRegistrationResponse;
+import com.twine.dto.LogoutRequest;
+import com.twine.dto.RefreshTokenRequest;
+import com.twine.dto.RegisterRequest;
+import com.twine.entity.AuthUser;
+import com.twine.entity.EmailOutbox;
+import com.twine.entity.Otp;
+import com.twine.entity.RefreshToken;
+import com.twine.entity.RevokedToken;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Reachability hints for the parts of the application that are only reached
+ * reflectively and so are invisible to the native-image static analysis.
+ * <p>
+ * jjwt instantiates its implementation classes by name and discovers its
+ * compression codecs and Jackson (de)serializers through
+ * {@link java.util.ServiceLoader}. Thymeleaf reads its templates and version
+ * properties from the classpath. Hibernate and Jackson access the entities'
+ * Lombok-generated constructors and accessors, and the request and response
+ * DTOs, by reflection. The hints are also recorded by the JVM AOT build, where
+ * they are harmless.
+ * </p>
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    private static final List<String> JJWT_SERVICES = List.of(
+            "META-INF/services/io.jsonwebtoken.CompressionCodec",
+            "META-INF/services/io.jsonwebtoken.io.Serializer",
+            "META-INF/services/io.jsonwebtoken.io.Deserializer");
+
+    private static final List<Class<?>> ENTITIES = List.of(
+            AuthUser.class, Otp.class, RefreshToken.class, RevokedToken.class, EmailOutbox.class);
+
+    private static final List<Class<?>> DTOS = List.of(
+            AuthenticationRequest.class, AuthenticationResponse.class, ErrorResponse.class,
+            InitiateRegistrationRequest.class, InitiateRegistrationResponse.class,
+            LogoutRequest.class, RefreshTokenRequest.class, RegisterRequest.class);
+
+    /**
+     * Registers the jjwt, Thymeleaf, entity and DTO hints.
+     *
+     * @param hints       the hints to contribute to
+     * @param classLoader the class loader of the application
+     */
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        JJWT_TYPES.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+        JJWT_SERVICES.forEach(hints.resources()::registerPattern);
+
+        hints.resources()
+                .registerPattern("templates/*.html")
+                .registerPattern("org/thymeleaf/thymeleaf.properties");
+
+        ENTITIES.forEach(entity -> hints.reflection().registerType(entity,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS));
+
+        BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+        DTOS.forEach(dto -> bindings.registerReflectionHints(hints.reflection(), dto));
+    }
+}
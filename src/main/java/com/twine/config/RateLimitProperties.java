@@ -0,0 +1,52 @@
+package com.twine.config;
+
+import com.twine.constants.AuthConstants;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rate limits applied by {@link com.twine.security.RateLimitFilter}, bound from
+ * the {@value AuthConstants#RATE_LIMIT_PREFIX} properties.
+ * <p>
+ * Routes are matched in declaration order and the first route whose path
+ * pattern matches the request applies. A route may limit requests per client
+ * IP, per target email (read from the JSON request body), or both.
+ * </p>
+ */
+@Data
+@ConfigurationProperties(prefix = AuthConstants.RATE_LIMIT_PREFIX)
+public class RateLimitProperties {
+    /** Whether requests are rate limited at all. */
+    private boolean enabled = true;
+
+    /** Maximum number of tracked keys per limit; idle keys are evicted first. */
+    private long maxKeys = 100_000;
+
+    /** Rate-limited routes by name, in match order. */
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    @Data
+    public static class Route {
+        /** Path pattern, e.g. {@code /api/v1/auth/login} or {@code /api/v1/auth/**}. */
+        private String path;
+
+        /** Limit per client IP, or null for none. */
+        private Limit ip;
+
+        /** Limit per target email, or null for none. */
+        private Limit email;
+    }
+
+    @Data
+    public static class Limit {
+        /** Number of requests allowed per period, also the maximum burst. */
+        private int capacity;
+
+        /** Period over which {@code capacity} requests are allowed. */
+        private Duration period;
+    }
+}
@@ -1,7 +1,12 @@
 package com.twine.config;
 
+import com.twine.constants.AuthConstants;
+import com.twine.constants.ObservabilityConstants;
 import com.twine.security.JwtAuthenticationFilter;
+import com.twine.security.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -9,41 +14,70 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 /**
  * Security configuration for HTTP request authorization, session management,
- * and JWT filter integration.
+ * rate limiting and JWT filter integration.
  */
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final AuthenticationProvider authenticationProvider;
 
     /**
      * Configures the security filter chain for the application, including endpoint
      * authorization,
      * session management, and JWT authentication filter.
+     * <p>
+     * Actuator endpoints other than health, such as the Prometheus scrape, are
+     * only open on the management port, which is meant to be reachable from
+     * inside the deployment only. If the management port is unset or equal to
+     * the application port, they require authentication like any other path.
+     * </p>
      *
-     * @param http the HttpSecurity configuration
+     * @param http           the HttpSecurity configuration
+     * @param managementPort the port of the management server, or -1 if none
+     * @param serverPort     the port of the application server
      * @return the configured SecurityFilterChain bean
      * @throws Exception if the security filter chain cannot be built
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+            @Value("${" + ObservabilityConstants.MANAGEMENT_SERVER_PORT_PROPERTY + ":-1}") int managementPort,
+            @Value("${" + ObservabilityConstants.SERVER_PORT_PROPERTY + ":8080}") int serverPort) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/api/v1/auth/logout", "/api/v1/auth/logout/all").authenticated()
                         .requestMatchers("/api/v1/auth/**").permitAll()
+                        .requestMatchers(AuthConstants.JWKS_PATH).permitAll()
+                        .requestMatchers(ObservabilityConstants.ACTUATOR_HEALTH_PATH).permitAll()
+                        .requestMatchers(onManagementPort(managementPort, serverPort)).permitAll()
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationProvider(authenticationProvider)
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
-}
\ No newline at end of file
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Matches requests received on a management port separate from the
+     * application port, and nothing otherwise.
+     */
+    private static RequestMatcher onManagementPort(int managementPort, int serverPort) {
+        boolean separate = managementPort > 0 && managementPort != serverPort;
+        return request -> separate && request.getLocalPort() == managementPort;
+    }
+}
@@ -8,5 +8,49 @@ public final class AuthConstants {
     public static final String BEARER_PREFIX = "Bearer ";
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String JWT_SECRET_PROPERTY = "jwt.secret";
+    public static final String JWT_LEGACY_ENABLED_PROPERTY = "jwt.legacy.enabled";
+    public static final String JWT_LEGACY_ACCEPT_UNTIL_PROPERTY = "jwt.legacy.accept-until";
     public static final String JWT_EXPIRATION_PROPERTY = "jwt.expiration";
+    public static final String JWT_REFRESH_EXPIRATION_PROPERTY = "jwt.refresh-expiration";
+    public static final int REFRESH_TOKEN_BYTES = 32;
+    public static final String JWT_REFRESH_PURGE_INTERVAL_PROPERTY = "jwt.refresh-purge.interval";
+    public static final String JWT_REFRESH_PURGE_BATCH_SIZE_PROPERTY = "jwt.refresh-purge.batch-size";
+    public static final String JWT_REFRESH_PURGE_RETENTION_PROPERTY = "jwt.refresh-purge.retention";
+    public static final String JWT_TOKEN_VERSION_REFRESH_PROPERTY = "jwt.token-version.refresh-interval";
+    public static final String JWT_KEYS_LOCATION_PROPERTY = "jwt.keys.location";
+    public static final String JWT_KEYS_RELOAD_INTERVAL_PROPERTY = "jwt.keys.reload-interval";
+    public static final String JWT_KEYS_ALLOW_EPHEMERAL_PROPERTY = "jwt.keys.allow-ephemeral";
+    public static final String JWKS_PATH = "/.well-known/jwks.json";
+    public static final String JWT_CACHE_ENABLED_PROPERTY = "jwt.cache.enabled";
+    public static final String JWT_CACHE_MAXIMUM_SIZE_PROPERTY = "jwt.cache.maximum-size";
+    public static final String JWT_CACHE_TTL_PROPERTY = "jwt.cache.ttl";
+    public static final String JWT_CACHE_NAME = "verifiedTokens";
+    public static final String PRINCIPAL_CACHE_MAXIMUM_SIZE_PROPERTY = "auth.principal-cache.maximum-size";
+    public static final String PRINCIPAL_CACHE_TTL_PROPERTY = "auth.principal-cache.ttl";
+    public static final String PRINCIPAL_CACHE_NAME = "principals";
+    public static final String EMAIL_FILTER_EXPECTED_INSERTIONS_PROPERTY = "registration.email-filter.expected-insertions";
+    public static final String EMAIL_FILTER_FALSE_POSITIVE_RATE_PROPERTY = "registration.email-filter.false-positive-rate";
+    public static final String EMAIL_FILTER_SYNC_INTERVAL_PROPERTY = "registration.email-filter.sync-interval";
+    public static final int EMAIL_FILTER_BATCH_SIZE = 10000;
+    public static final String JWT_REVOCATION_SYNC_INTERVAL_PROPERTY = "jwt.revocation.sync-interval";
+    public static final String JWT_REVOCATION_SYNC_OVERLAP_PROPERTY = "jwt.revocation.sync-overlap";
+    public static final String JWT_REVOCATION_REBUILD_INTERVAL_PROPERTY = "jwt.revocation.rebuild-interval";
+    public static final String JWT_REVOCATION_EXPECTED_INSERTIONS_PROPERTY = "jwt.revocation.bloom.expected-insertions";
+    public static final String JWT_REVOCATION_FALSE_POSITIVE_RATE_PROPERTY = "jwt.revocation.bloom.false-positive-rate";
+    public static final String PASSWORD_HASHING_THREADS_PROPERTY = "password-hashing.threads";
+    public static final String PASSWORD_HASHING_QUEUE_CAPACITY_PROPERTY = "password-hashing.queue-capacity";
+    public static final String PASSWORD_HASHING_RETRY_AFTER_PROPERTY = "password-hashing.retry-after-seconds";
+    public static final String PASSWORD_HASHING_ALGORITHM_PROPERTY = "password-hashing.algorithm";
+    public static final String PASSWORD_HASHING_TARGET_MILLIS_PROPERTY = "password-hashing.target-millis";
+    public static final String PASSWORD_HASHING_BCRYPT_STRENGTH_PROPERTY = "password-hashing.bcrypt.strength";
+    public static final String PASSWORD_HASHING_BCRYPT_MIN_STRENGTH_PROPERTY = "password-hashing.bcrypt.min-strength";
+    public static final String PASSWORD_HASHING_ARGON2_MEMORY_PROPERTY = "password-hashing.argon2.memory-kib";
+    public static final String PASSWORD_HASHING_ARGON2_ITERATIONS_PROPERTY = "password-hashing.argon2.iterations";
+    public static final String PASSWORD_HASHING_ARGON2_MIN_ITERATIONS_PROPERTY = "password-hashing.argon2.min-iterations";
+    public static final String BCRYPT_ENCODER_ID = "bcrypt";
+    public static final String ARGON2_ENCODER_ID = "argon2";
+    public static final String RATE_LIMIT_PREFIX = "rate-limit";
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
 } 
\ No newline at end of file
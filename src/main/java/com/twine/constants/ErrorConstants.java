@@ -8,8 +8,18 @@ public final class ErrorConstants {
     public static final String EMAIL_ALREADY_REGISTERED = "Email already registered";
     public static final String USER_NOT_FOUND = "User not found";
     public static final String INVALID_EMAIL_PASSWORD = "Invalid email or password";
+    public static final String UNSUPPORTED_AUTHENTICATION_METHOD = "Unsupported authentication method";
     public static final String NO_VALID_OTP = "No valid OTP found for this email";
     public static final String OTP_EXPIRED = "OTP has expired";
     public static final String INVALID_OTP = "Invalid OTP";
+    public static final String OTP_ATTEMPTS_EXHAUSTED = "Too many invalid attempts, please request a new OTP";
+    public static final String INVALID_REFRESH_TOKEN = "Invalid refresh token";
+    public static final String REFRESH_TOKEN_EXPIRED = "Refresh token has expired";
+    public static final String REFRESH_TOKEN_REUSED = "Refresh token has already been used";
+    public static final String TOO_MANY_REQUESTS = "Too many requests, please retry later";
+    public static final String REQUEST_BODY_TOO_LARGE = "Request body is too large";
+    public static final String EMAIL_REQUIRED = "Request body must contain an email";
+    public static final String TOO_MANY_AUTHENTICATION_REQUESTS = "Too many authentication requests, please retry later";
+    public static final String TOO_MANY_PENDING_OTP_EMAILS = "Too many verification emails pending, please retry later";
     public static final String FAILED_TO_SEND_OTP_EMAIL = "Failed to send OTP email: %s";
 } 
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.twine.constants;
+
+public final class ObservabilityConstants {
+    private ObservabilityConstants() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static final String PINNING_THRESHOLD_PROPERTY = "threads.virtual.pinning.threshold";
+    public static final String PINNING_STACK_DEPTH_PROPERTY = "threads.virtual.pinning.stack-depth";
+    public static final String JFR_VIRTUAL_THREAD_PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    public static final String ACTUATOR_HEALTH_PATH = "/actuator/health/**";
+    public static final String MANAGEMENT_SERVER_PORT_PROPERTY = "management.server.port";
+    public static final String SERVER_PORT_PROPERTY = "server.port";
+
+    public static final String SERVER_TIMING_ENABLED_PROPERTY = "server-timing.enabled";
+    public static final String SERVER_TIMING_TOKEN_PROPERTY = "server-timing.token";
+    public static final String SERVER_TIMING_SLOW_REQUEST_THRESHOLD_PROPERTY = "server-timing.slow-request-threshold";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    public static final String SERVER_TIMING_REQUEST_HEADER = "X-Server-Timing-Token";
+
+    public static final String PHASE_TOTAL = "total";
+    public static final String PHASE_JWT_VERIFY = "jwt-verify";
+    public static final String PHASE_JWT_SIGN = "jwt-sign";
+    public static final String PHASE_AUTHENTICATE = "authenticate";
+    public static final String PHASE_PASSWORD = "password";
+    public static final String PHASE_DB = "db";
+    public static final String PHASE_EMAIL_CHECK = "email-check";
+    public static final String PHASE_REFRESH_TOKEN = "refresh-token";
+    public static final String PHASE_OTP_ISSUE = "otp-issue";
+    public static final String PHASE_OTP_WAIT = "otp-wait";
+    public static final String PHASE_OTP_VALIDATE = "otp-validate";
+}
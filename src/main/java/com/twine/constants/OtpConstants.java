@@ -10,4 +10,33 @@ public final class OtpConstants {
     public static final String OTP_CHARS = "0123456789";
     public static final String OTP_EMAIL_TEMPLATE = "otp-email";
     public static final String EMAIL_SUBJECT = "Your Twine Verification Code";
-} 
\ No newline at end of file
+    public static final String OUTBOX_POLL_INTERVAL_PROPERTY = "otp.outbox.poll-interval";
+    public static final String OUTBOX_BATCH_SIZE_PROPERTY = "otp.outbox.batch-size";
+    public static final String OUTBOX_MAX_ATTEMPTS_PROPERTY = "otp.outbox.max-attempts";
+    public static final String OUTBOX_INITIAL_BACKOFF_PROPERTY = "otp.outbox.initial-backoff";
+    public static final String OUTBOX_MAX_BACKOFF_PROPERTY = "otp.outbox.max-backoff";
+    public static final String OUTBOX_LEASE_PROPERTY = "otp.outbox.lease";
+    public static final String OUTBOX_PURGE_INTERVAL_PROPERTY = "otp.outbox.purge-interval";
+    public static final String OUTBOX_RETENTION_PROPERTY = "otp.outbox.retention";
+    public static final String OUTBOX_MEMORY_CAPACITY_PROPERTY = "otp.outbox.memory.capacity";
+    public static final int OUTBOX_ERROR_MAX_LENGTH = 1000;
+    public static final int OUTBOX_PURGE_BATCH_SIZE = 1000;
+    public static final String MAIL_POOL_SIZE_PROPERTY = "mail.pool.size";
+    public static final String MAIL_POOL_BORROW_TIMEOUT_PROPERTY = "mail.pool.borrow-timeout";
+    public static final String MAIL_POOL_MAX_IDLE_PROPERTY = "mail.pool.max-idle";
+    public static final String MAIL_POOL_VALIDATE_AFTER_IDLE_PROPERTY = "mail.pool.validate-after-idle";
+    public static final String MAIL_POOL_MAX_MESSAGES_PROPERTY = "mail.pool.max-messages-per-connection";
+    public static final String MAIL_DISPATCH_QUEUE_CAPACITY_PROPERTY = "mail.dispatch.queue-capacity";
+    public static final String OTP_STORE_PROPERTY = "otp.store";
+    public static final String OTP_STORE_JPA = "jpa";
+    public static final String OTP_STORE_MEMORY = "memory";
+    public static final String OTP_MEMORY_MAX_ENTRIES_PROPERTY = "otp.memory.max-entries";
+    public static final String OTP_MEMORY_SHARDS_PROPERTY = "otp.memory.shards";
+    public static final String OTP_MEMORY_TICK_PROPERTY = "otp.memory.tick";
+    public static final String OTP_MEMORY_WHEEL_SIZE_PROPERTY = "otp.memory.wheel-size";
+    public static final String OTP_RESEND_INTERVAL_PROPERTY = "otp.resend-interval";
+    public static final String OTP_MAX_ATTEMPTS_PROPERTY = "otp.max-attempts";
+    public static final String OTP_PURGE_INTERVAL_PROPERTY = "otp.purge.interval";
+    public static final String OTP_PURGE_BATCH_SIZE_PROPERTY = "otp.purge.batch-size";
+    public static final String OTP_PURGE_RETENTION_PROPERTY = "otp.purge.retention";
+}
\ No newline at end of file
@@ -3,12 +3,17 @@ package com.twine.controller;
 import com.twine.dto.AuthenticationRequest;
 import com.twine.dto.AuthenticationResponse;
 import com.twine.dto.InitiateRegistrationRequest;
+import com.twine.dto.InitiateRegistrationResponse;
+import com.twine.dto.LogoutRequest;
+import com.twine.dto.RefreshTokenRequest;
 import com.twine.dto.RegisterRequest;
+import com.twine.security.VerifiedToken;
 import com.twine.service.IAuthenticationService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,7 +24,8 @@ import org.springframework.web.bind.annotation.RestController;
  * <p>
  * Provides endpoints for initiating registration (sending OTP), completing
  * registration (verifying OTP and creating user),
- * and authenticating users (login). All endpoints expect and return JSON
+ * authenticating users (login), refreshing access tokens and revoking sessions
+ * (logout). All endpoints expect and return JSON
  * payloads.
  * </p>
  */
@@ -36,18 +42,18 @@ public class AuthenticationController {
      * <p>
      * Endpoint: <b>POST /api/v1/auth/register/initiate</b><br>
      * Request Body: {@link InitiateRegistrationRequest} (must be valid)<br>
-     * Response: 200 OK (no content)
+     * Response: 200 OK with {@link InitiateRegistrationResponse} telling whether a
+     * new OTP was sent and when another may be requested
      * </p>
      *
      * @param request the registration initiation request containing the user's
      *                email
-     * @return 200 OK if OTP is sent successfully
+     * @return 200 OK with the OTP resend information
      */
     @PostMapping("/register/initiate")
-    public ResponseEntity<Void> initiateRegistration(
+    public ResponseEntity<InitiateRegistrationResponse> initiateRegistration(
             @Valid @RequestBody InitiateRegistrationRequest request) {
-        authenticationService.initiateRegistration(request);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(authenticationService.initiateRegistration(request));
     }
 
     /**
@@ -76,6 +82,7 @@ public class AuthenticationController {
      * Request Body: {@link AuthenticationRequest} (must be valid, includes email
      * and password)<br>
      * Response: 200 OK with {@link AuthenticationResponse} containing a JWT token
+     * and a refresh token
      * </p>
      *
      * @param request the authentication request with email and password
@@ -86,4 +93,61 @@ public class AuthenticationController {
             @Valid @RequestBody AuthenticationRequest request) {
         return ResponseEntity.ok(authenticationService.authenticate(request));
     }
+
+    /**
+     * Exchanges a refresh token for a new access token and a rotated refresh
+     * token.
+     * <p>
+     * Endpoint: <b>POST /api/v1/auth/refresh</b><br>
+     * Request Body: {@link RefreshTokenRequest} (must be valid)<br>
+     * Response: 200 OK with {@link AuthenticationResponse} containing a new JWT
+     * token and a new refresh token
+     * </p>
+     *
+     * @param request the refresh request containing the current refresh token
+     * @return 200 OK with authentication response containing the new token pair
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthenticationResponse> refresh(
+            @Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authenticationService.refresh(request));
+    }
+
+    /**
+     * Logs out the current session by revoking its access token and, if given,
+     * its refresh token.
+     * <p>
+     * Endpoint: <b>POST /api/v1/auth/logout</b> (requires a bearer token)<br>
+     * Request Body: optional {@link LogoutRequest}<br>
+     * Response: 200 OK (no content)
+     * </p>
+     *
+     * @param token   the verified access token of the current request
+     * @param request the optional logout request with the session refresh token
+     * @return 200 OK once the session is revoked
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @AuthenticationPrincipal VerifiedToken token,
+            @RequestBody(required = false) LogoutRequest request) {
+        authenticationService.logout(token, request);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * Logs out every session of the current user by invalidating all access and
+     * refresh tokens issued so far.
+     * <p>
+     * Endpoint: <b>POST /api/v1/auth/logout/all</b> (requires a bearer token)<br>
+     * Response: 200 OK (no content)
+     * </p>
+     *
+     * @param token the verified access token of the current request
+     * @return 200 OK once all sessions are revoked
+     */
+    @PostMapping("/logout/all")
+    public ResponseEntity<Void> logoutAll(@AuthenticationPrincipal VerifiedToken token) {
+        authenticationService.logoutAll(token);
+        return ResponseEntity.ok().build();
+    }
 }
\ No newline at end of file
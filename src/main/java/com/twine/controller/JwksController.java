@@ -0,0 +1,45 @@
+package com.twine.controller;
+
+import com.twine.constants.AuthConstants;
+import com.twine.security.JwtKeyRing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * REST controller publishing the public JWT verification keys.
+ * <p>
+ * Downstream services fetch the key set once, cache it, and verify tokens
+ * locally by matching the token's {@code kid} header against it.
+ * </p>
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private static final CacheControl JWKS_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+    private final JwtKeyRing jwtKeyRing;
+
+    /**
+     * Returns the JSON Web Key Set of all keys that may have signed a live token.
+     * <p>
+     * Endpoint: <b>GET /.well-known/jwks.json</b><br>
+     * Response: 200 OK with the JWKS document
+     * </p>
+     *
+     * @return 200 OK with the JSON Web Key Set
+     */
+    @GetMapping(AuthConstants.JWKS_PATH)
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(JWKS_CACHE_CONTROL)
+                .body(jwtKeyRing.getJwks());
+    }
+}
@@ -0,0 +1,18 @@
+package com.twine.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class InitiateRegistrationResponse {
+    private boolean otpSent;
+    private LocalDateTime resendAvailableAt;
+    private long resendAfterSeconds;
+}
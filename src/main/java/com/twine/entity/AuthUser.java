@@ -1,5 +1,8 @@
 package com.twine.entity;
 
+import com.twine.entity.listener.AuthUserCacheListener;
+import com.twine.entity.listener.RegisteredEmailListener;
+import com.twine.util.EmailNormalizer;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,6 +21,7 @@ import java.util.List;
 @AllArgsConstructor
 @Entity
 @Table(name = "auth_users")
+@EntityListeners({AuthUserCacheListener.class, RegisteredEmailListener.class})
 public class AuthUser implements UserDetails {
     
     @Id
@@ -27,6 +31,13 @@ public class AuthUser implements UserDetails {
     @Column(unique = true, nullable = false)
     private String email;
 
+    /**
+     * Trimmed, lower-cased copy of {@link #email}, maintained on every write.
+     * Its unique index makes addresses differing only by case collide.
+     */
+    @Column(name = "email_normalized", unique = true)
+    private String emailNormalized;
+
     @Column(nullable = false)
     private String password;
 
@@ -38,6 +49,21 @@ public class AuthUser implements UserDetails {
     @Builder.Default
     private boolean enabled = true;
 
+    /**
+     * Version stamped into every issued JWT. Incrementing it invalidates all
+     * tokens issued before the change (e.g. after disabling the user or changing
+     * the role).
+     */
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    @Builder.Default
+    private int tokenVersion = 0;
+
+    @PrePersist
+    @PreUpdate
+    void normalizeEmail() {
+        emailNormalized = EmailNormalizer.normalize(email);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority(role.name()));
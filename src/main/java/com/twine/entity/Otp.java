@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -15,7 +16,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "otp_records")
+@Table(name = "otp_records", indexes = {
+        @Index(name = "idx_otp_records_email_expiry", columnList = "email, expiry_time"),
+        @Index(name = "idx_otp_records_expiry_time", columnList = "expiry_time")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Otp {
     @Id
@@ -34,6 +38,10 @@ public class Otp {
     @Column(nullable = false)
     private boolean used;
 
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int failedAttempts;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,15 @@
+package com.twine.entity;
+
+/**
+ * Delivery state of an {@link EmailOutbox} message.
+ */
+public enum OutboxStatus {
+    /** Waiting for its next delivery attempt. */
+    PENDING,
+    /** Claimed by a dispatcher; reclaimed if the claim lease runs out. */
+    SENDING,
+    /** Delivered to the mail server. */
+    SENT,
+    /** Given up after exhausting its attempts or outliving its OTP. */
+    DEAD
+}
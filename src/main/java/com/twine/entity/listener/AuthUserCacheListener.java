@@ -0,0 +1,34 @@
+package com.twine.entity.listener;
+
+import com.twine.entity.AuthUser;
+import com.twine.security.PrincipalCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that invalidates cached principals whenever an
+ * {@link AuthUser} is inserted, updated or deleted, regardless of which
+ * repository performed the write.
+ * <p>
+ * The cache is resolved lazily because Hibernate instantiates listeners while
+ * the entity manager factory, which the cache's repository depends on, is
+ * still being built.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthUserCacheListener {
+
+    private final ObjectProvider<PrincipalCache> principalCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void invalidate(AuthUser authUser) {
+        principalCache.getObject().invalidate(authUser.getEmail());
+    }
+}
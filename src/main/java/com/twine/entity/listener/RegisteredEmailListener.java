@@ -0,0 +1,31 @@
+package com.twine.entity.listener;
+
+import com.twine.entity.AuthUser;
+import com.twine.security.RegisteredEmailFilter;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that adds the email of every inserted or updated
+ * {@link AuthUser} to the {@link RegisteredEmailFilter}.
+ * <p>
+ * The filter is resolved lazily for the same reason as in
+ * {@link AuthUserCacheListener}. Adding an email whose transaction later rolls
+ * back only costs a false positive.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RegisteredEmailListener {
+
+    private final ObjectProvider<RegisteredEmailFilter> registeredEmailFilter;
+
+    @PostPersist
+    @PostUpdate
+    void register(AuthUser authUser) {
+        registeredEmailFilter.getObject().register(authUser.getEmailNormalized());
+    }
+}
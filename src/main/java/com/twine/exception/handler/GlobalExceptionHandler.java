@@ -2,14 +2,20 @@ package com.twine.exception.handler;
 
 import com.twine.dto.ErrorResponse;
 import com.twine.exception.BaseException;
+import com.twine.exception.TooManyRequestsException;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -19,10 +25,19 @@ import java.util.Map;
  * Global exception handler for REST controllers. Handles application-specific
  * and generic exceptions,
  * providing consistent error responses for clients.
+ * <p>
+ * Every handled error is counted as {@code twine.auth.errors}, tagged with the
+ * exception type, the response status and the matched endpoint pattern.
+ * </p>
  */
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private static final String UNKNOWN_ENDPOINT = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
     /**
      * Handles custom BaseException and returns a structured error response.
      *
@@ -32,6 +47,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(BaseException.class)
     public ResponseEntity<ErrorResponse> handleBaseException(BaseException ex, HttpServletRequest request) {
+        countError(ex, ex.getStatus(), request);
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(ex.getStatus().value())
@@ -43,6 +59,32 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, ex.getStatus());
     }
 
+    /**
+     * Handles rejected requests due to overload and tells the client when to
+     * retry.
+     *
+     * @param ex      the TooManyRequestsException thrown
+     * @param request the HTTP request
+     * @return a ResponseEntity containing the error response, 429 status and a
+     *         Retry-After header
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException ex,
+            HttpServletRequest request) {
+        countError(ex, ex.getStatus(), request);
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(ex.getStatus().value())
+                .error(ex.getStatus().getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * Handles authentication failures due to bad credentials.
      *
@@ -53,6 +95,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ErrorResponse> handleBadCredentialsException(BadCredentialsException ex,
             HttpServletRequest request) {
+        countError(ex, HttpStatus.UNAUTHORIZED, request);
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(401)
@@ -68,12 +111,15 @@ public class GlobalExceptionHandler {
      * Handles validation errors for method arguments and returns a map of field
      * errors.
      *
-     * @param ex the MethodArgumentNotValidException thrown
+     * @param ex      the MethodArgumentNotValidException thrown
+     * @param request the HTTP request
      * @return a ResponseEntity containing a map of field names to error messages
      *         and 400 status
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
+    public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex,
+            HttpServletRequest request) {
+        countError(ex, HttpStatus.BAD_REQUEST, request);
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach((error) -> {
             String fieldName = ((FieldError) error).getField();
@@ -92,6 +138,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex, HttpServletRequest request) {
+        countError(ex, HttpStatus.INTERNAL_SERVER_ERROR, request);
         ErrorResponse errorResponse = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(500)
@@ -102,4 +149,19 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(errorResponse, org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Counts a handled error by exception type, status and endpoint. The
+     * endpoint is the matched handler pattern, so the tag stays bounded.
+     */
+    private void countError(Exception ex, HttpStatus status, HttpServletRequest request) {
+        Object endpoint = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        meterRegistry.counter("twine.auth.errors",
+                "type", ex.getClass().getSimpleName(),
+                "status", String.valueOf(status.value()),
+                "endpoint", endpoint != null ? endpoint.toString() : UNKNOWN_ENDPOINT)
+                .increment();
+    }
 }
\ No newline at end of file
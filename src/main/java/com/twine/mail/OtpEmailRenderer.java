@@ -0,0 +1,251 @@
+package com.twine.mail;
+
+import com.twine.constants.OtpConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeUtility;
+import jakarta.mail.util.SharedByteArrayInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds email messages, with a precompiled fast path for the OTP email.
+ * <p>
+ * The OTP template's only dynamic value is the code itself, so at startup the
+ * template is rendered once with a placeholder and turned into a byte
+ * skeleton: the MIME headers and the quoted-printable encoded HTML before and
+ * after the code. Building an OTP message is then two array copies around the
+ * six code bytes and a header parse, with no template processing, multipart
+ * assembly or content encoding. The skeleton is a single {@code text/html}
+ * part; the code is framed by quoted-printable soft line breaks, so it can be
+ * spliced in without re-encoding its surroundings.
+ * </p>
+ * <p>
+ * The skeleton is verified against a full Thymeleaf rendering at startup.
+ * Other templates, codes that are not plain alphanumerics, and any failure to
+ * precompile fall back to Thymeleaf with a {@link MimeMessageHelper}. OTP
+ * message build time is published as {@code twine.otp.email.render}, tagged
+ * with the path taken.
+ * </p>
+ */
+@Slf4j
+@Component
+public class OtpEmailRenderer {
+
+    private static final String OTP_VARIABLE = "otp";
+    private static final String OTP_PLACEHOLDER = "TWINEOTPPLACEHOLDER";
+    private static final String VERIFICATION_OTP = "012345";
+    private static final String QUOTED_PRINTABLE = "quoted-printable";
+    private static final byte[] SOFT_LINE_BREAK = "=\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final JavaMailSenderImpl mailSender;
+    private final TemplateEngine templateEngine;
+    private final Skeleton otpSkeleton;
+    private final Timer precompiledRenderTimer;
+    private final Timer templateRenderTimer;
+
+    public OtpEmailRenderer(JavaMailSenderImpl mailSender, TemplateEngine templateEngine,
+            MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.templateEngine = templateEngine;
+        this.otpSkeleton = precompileOtpSkeleton();
+        this.precompiledRenderTimer = otpRenders(meterRegistry, "precompiled");
+        this.templateRenderTimer = otpRenders(meterRegistry, "template");
+    }
+
+    /**
+     * Creates the OTP email for a recipient.
+     *
+     * @param recipientEmail the recipient's email address
+     * @param otpValue       the OTP code
+     * @return the message, ready to send
+     * @throws MessagingException if the message cannot be built
+     */
+    public MimeMessage createOtpMessage(String recipientEmail, String otpValue) throws MessagingException {
+        long startedAt = System.nanoTime();
+        if (otpSkeleton == null || !isAlphanumeric(otpValue)) {
+            MimeMessage message = createMessage(OtpConstants.OTP_EMAIL_TEMPLATE, Map.of(OTP_VARIABLE, otpValue),
+                    recipientEmail, OtpConstants.EMAIL_SUBJECT);
+            templateRenderTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return message;
+        }
+        MimeMessage message = new PrecompiledMimeMessage(mailSender.getSession(), otpSkeleton.fill(otpValue));
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress(recipientEmail, true));
+        precompiledRenderTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return message;
+    }
+
+    /**
+     * Creates an HTML email by processing a Thymeleaf template.
+     *
+     * @param template       the template name
+     * @param variables      the template variables
+     * @param recipientEmail the recipient's email address
+     * @param subject        the email subject
+     * @return the message, ready to send
+     * @throws MessagingException if the message cannot be built
+     */
+    public MimeMessage createMessage(String template, Map<String, Object> variables, String recipientEmail,
+            String subject) throws MessagingException {
+        Context context = new Context();
+        context.setVariables(variables);
+        String emailContent = templateEngine.process(template, context);
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(recipientEmail);
+        helper.setSubject(subject);
+        helper.setText(emailContent, true);
+        return message;
+    }
+
+    /**
+     * Returns whether OTP messages are built from the precompiled skeleton.
+     *
+     * @return true if the fast path is active
+     */
+    public boolean isPrecompiled() {
+        return otpSkeleton != null;
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Renders the OTP template around a placeholder, encodes it and checks that
+     * a message built from the result matches a regular rendering.
+     *
+     * @return the verified skeleton, or null to use the Thymeleaf path
+     */
+    private Skeleton precompileOtpSkeleton() {
+        try {
+            String html = render(OTP_PLACEHOLDER);
+            int placeholder = html.indexOf(OTP_PLACEHOLDER);
+            if (placeholder < 0 || html.indexOf(OTP_PLACEHOLDER, placeholder + 1) >= 0) {
+                log.warn("OTP template does not render the code exactly once; using Thymeleaf for OTP emails");
+                return null;
+            }
+            ByteArrayOutputStream head = new ByteArrayOutputStream();
+            head.write(headers());
+            head.write(encode(html.substring(0, placeholder)));
+            head.write(SOFT_LINE_BREAK);
+            ByteArrayOutputStream tail = new ByteArrayOutputStream();
+            tail.write(SOFT_LINE_BREAK);
+            tail.write(encode(html.substring(placeholder + OTP_PLACEHOLDER.length())));
+            Skeleton skeleton = new Skeleton(head.toByteArray(), tail.toByteArray());
+
+            Object content = new MimeMessage(mailSender.getSession(),
+                    new SharedByteArrayInputStream(skeleton.fill(VERIFICATION_OTP))).getContent();
+            if (!normalizeLineEndings(render(VERIFICATION_OTP)).equals(normalizeLineEndings(String.valueOf(content)))) {
+                log.warn("Precompiled OTP email does not match the template output; using Thymeleaf for OTP emails");
+                return null;
+            }
+            log.info("OTP email precompiled into a {} byte skeleton", skeleton.length());
+            return skeleton;
+        } catch (MessagingException | IOException | RuntimeException e) {
+            log.warn("Failed to precompile OTP email; using Thymeleaf for OTP emails", e);
+            return null;
+        }
+    }
+
+    private String render(String otpValue) {
+        Context context = new Context();
+        context.setVariable(OTP_VARIABLE, otpValue);
+        return templateEngine.process(OtpConstants.OTP_EMAIL_TEMPLATE, context);
+    }
+
+    private byte[] headers() throws IOException {
+        String headers = "MIME-Version: 1.0\r\n"
+                + "Subject: " + MimeUtility.fold(9, MimeUtility.encodeText(OtpConstants.EMAIL_SUBJECT,
+                        StandardCharsets.UTF_8.name(), "Q")) + "\r\n"
+                + "Content-Type: text/html; charset=UTF-8\r\n"
+                + "Content-Transfer-Encoding: " + QUOTED_PRINTABLE + "\r\n"
+                + "\r\n";
+        return headers.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private byte[] encode(String html) throws IOException, MessagingException {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream(html.length() + html.length() / 4);
+        try (OutputStream encoder = MimeUtility.encode(encoded, QUOTED_PRINTABLE)) {
+            encoder.write(html.getBytes(StandardCharsets.UTF_8));
+        }
+        return encoded.toByteArray();
+    }
+
+    private static Timer otpRenders(MeterRegistry meterRegistry, String path) {
+        return Timer.builder("twine.otp.email.render")
+                .description("Time spent building an OTP email message")
+                .tag("path", path)
+                .register(meterRegistry);
+    }
+
+    private static String normalizeLineEndings(String text) {
+        return text.replace("\r\n", "\n");
+    }
+
+    private static boolean isAlphanumeric(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'A' && c <= 'Z') && !(c >= 'a' && c <= 'z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Encoded message bytes before and after the OTP code.
+     */
+    private record Skeleton(byte[] head, byte[] tail) {
+
+        byte[] fill(String otpValue) {
+            int otpLength = otpValue.length();
+            byte[] message = new byte[head.length + otpLength + tail.length];
+            System.arraycopy(head, 0, message, 0, head.length);
+            for (int i = 0; i < otpLength; i++) {
+                message[head.length + i] = (byte) otpValue.charAt(i);
+            }
+            System.arraycopy(tail, 0, message, head.length + otpLength, tail.length);
+            return message;
+        }
+
+        int length() {
+            return head.length + tail.length;
+        }
+    }
+
+    /**
+     * Message parsed from a skeleton. Saving changes only assigns a Message-ID,
+     * so the prebuilt content bytes are written out as they are rather than
+     * being decoded and re-encoded.
+     */
+    private static final class PrecompiledMimeMessage extends MimeMessage {
+
+        private PrecompiledMimeMessage(Session session, byte[] bytes) throws MessagingException {
+            super(session, new SharedByteArrayInputStream(bytes));
+        }
+
+        @Override
+        public void saveChanges() throws MessagingException {
+            updateMessageID();
+            saved = true;
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.twine.mail;
+
+import com.twine.constants.OtpConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JavaMailSenderImpl} that keeps a small pool of connected, authenticated
+ * SMTP transports instead of opening a new session for every send.
+ * <p>
+ * The base class connects, negotiates STARTTLS, authenticates, sends and
+ * disconnects on every call; for a remote server the handshake dominates
+ * the cost of a message. Here a send borrows an idle transport (or connects
+ * a new one if fewer than {@code poolSize} exist), sends every message of
+ * the call over it and returns it to the pool. A borrowed transport is
+ * health-checked with {@link Transport#isConnected()} (an SMTP {@code NOOP})
+ * only when it has been idle for longer than {@code validateAfterIdle}, and is
+ * retired once it reaches {@code maxMessagesPerConnection} or
+ * {@code maxIdle}, since providers drop long-lived or heavily used sessions.
+ * </p>
+ * <p>
+ * Connection opens, reuses and closes and per-message send latency are
+ * published under {@code twine.mail.*}.
+ * </p>
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+
+    private final BlockingDeque<PooledTransport> idleTransports = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final int poolSize;
+    private final long borrowTimeoutMillis;
+    private final long maxIdleMillis;
+    private final long validateAfterIdleMillis;
+    private final int maxMessagesPerConnection;
+    private final Counter connectionsOpened;
+    private final Counter connectionsReused;
+    private final Counter connectionsClosed;
+    private final Timer sendTimer;
+
+    public PooledJavaMailSender(int poolSize, Duration borrowTimeout, Duration maxIdle, Duration validateAfterIdle,
+            int maxMessagesPerConnection, MeterRegistry meterRegistry) {
+        this.poolSize = poolSize;
+        this.permits = new Semaphore(poolSize, true);
+        this.borrowTimeoutMillis = borrowTimeout.toMillis();
+        this.maxIdleMillis = maxIdle.toMillis();
+        this.validateAfterIdleMillis = validateAfterIdle.toMillis();
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.connectionsOpened = mailConnections(meterRegistry, "opened");
+        this.connectionsReused = mailConnections(meterRegistry, "reused");
+        this.connectionsClosed = mailConnections(meterRegistry, "closed");
+        this.sendTimer = Timer.builder("twine.mail.send")
+                .description("Time to send one message over an established SMTP connection")
+                .register(meterRegistry);
+        Gauge.builder("twine.mail.connections.idle", idleTransports, BlockingDeque::size)
+                .description("Connected SMTP transports waiting in the pool")
+                .register(meterRegistry);
+        Gauge.builder("twine.mail.connections.active", this, sender -> sender.poolSize - sender.permits.availablePermits())
+                .description("SMTP transports currently sending")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sends the messages over one pooled transport. Mirrors the failure
+     * semantics of {@link JavaMailSenderImpl}: a failed connection fails every
+     * remaining message, individual message failures are collected and reported
+     * together in a {@link MailSendException}. Only a transport that is still
+     * held when the call ends is returned to the pool; retired ones are
+     * dropped before the next borrow, which may fail.
+     */
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        acquirePermit(mimeMessages, originalMessages, failedMessages);
+        PooledTransport transport = null;
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                if (transport == null || transport.isExhausted()) {
+                    retire(transport);
+                    // Cleared first, so a failing borrow does not release the retired transport
+                    transport = null;
+                    transport = borrow(mimeMessages, originalMessages, i, failedMessages);
+                }
+                MimeMessage mimeMessage = mimeMessages[i];
+                try {
+                    send(transport, mimeMessage);
+                    if (transport.confirmReuse()) {
+                        connectionsReused.increment();
+                    }
+                } catch (Exception e) {
+                    failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessage, e);
+                    if (!transport.transport().isConnected()) {
+                        retire(transport);
+                        transport = null;
+                    }
+                }
+            }
+        } finally {
+            release(transport);
+            permits.release();
+        }
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    /**
+     * Closes every idle transport.
+     */
+    @Override
+    public void destroy() {
+        PooledTransport transport;
+        while ((transport = idleTransports.poll()) != null) {
+            close(transport);
+        }
+    }
+
+    /**
+     * Closes idle transports that have outlived the maximum idle time, so the
+     * pool does not hold sessions the server is about to drop anyway.
+     */
+    @Scheduled(fixedDelayString = "${" + OtpConstants.MAIL_POOL_MAX_IDLE_PROPERTY + ":60000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        for (PooledTransport transport : idleTransports) {
+            if (now - transport.lastUsedAt() > maxIdleMillis && idleTransports.remove(transport)) {
+                close(transport);
+            }
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private void acquirePermit(MimeMessage[] mimeMessages, Object[] originalMessages,
+            Map<Object, Exception> failedMessages) {
+        try {
+            if (permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        MessagingException exhausted = new MessagingException("No SMTP connection available within "
+                + borrowTimeoutMillis + " ms");
+        throw failRemaining(mimeMessages, originalMessages, 0, failedMessages, exhausted);
+    }
+
+    /**
+     * Takes the most recently used idle transport that is still usable, or
+     * connects a new one. A pooled transport counts as reused once a message
+     * has gone out over it, since one that skipped validation may turn out to
+     * have been dropped by the server.
+     */
+    private PooledTransport borrow(MimeMessage[] mimeMessages, Object[] originalMessages, int from,
+            Map<Object, Exception> failedMessages) {
+        PooledTransport pooled;
+        while ((pooled = idleTransports.pollFirst()) != null) {
+            long idleMillis = System.currentTimeMillis() - pooled.lastUsedAt();
+            if (idleMillis <= maxIdleMillis && !pooled.isExhausted()
+                    && (idleMillis < validateAfterIdleMillis || pooled.transport().isConnected())) {
+                pooled.markBorrowedFromPool();
+                return pooled;
+            }
+            close(pooled);
+        }
+        try {
+            Transport transport = connectTransport();
+            connectionsOpened.increment();
+            return new PooledTransport(transport);
+        } catch (AuthenticationFailedException e) {
+            throw new MailAuthenticationException(e);
+        } catch (Exception e) {
+            throw failRemaining(mimeMessages, originalMessages, from, failedMessages, e);
+        }
+    }
+
+    private void send(PooledTransport transport, MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+        }
+        Address[] addresses = mimeMessage.getAllRecipients();
+        long start = System.nanoTime();
+        try {
+            transport.transport().sendMessage(mimeMessage, addresses != null ? addresses : new Address[0]);
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            transport.markUsed();
+        }
+    }
+
+    private void release(PooledTransport transport) {
+        if (transport == null) {
+            return;
+        }
+        if (transport.isExhausted()) {
+            close(transport);
+        } else {
+            idleTransports.offerFirst(transport);
+        }
+    }
+
+    private void retire(PooledTransport transport) {
+        if (transport != null) {
+            close(transport);
+        }
+    }
+
+    private void close(PooledTransport transport) {
+        try {
+            transport.transport().close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP transport cleanly", e);
+        }
+        connectionsClosed.increment();
+    }
+
+    private MailSendException failRemaining(MimeMessage[] mimeMessages, Object[] originalMessages, int from,
+            Map<Object, Exception> failedMessages, Exception cause) {
+        for (int i = from; i < mimeMessages.length; i++) {
+            failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessages[i], cause);
+        }
+        return new MailSendException("Mail server connection failed", cause, failedMessages);
+    }
+
+    private static Counter mailConnections(MeterRegistry meterRegistry, String event) {
+        return Counter.builder("twine.mail.connections")
+                .description("SMTP connection lifecycle events; reused counts sends that skipped the handshake")
+                .tag("event", event)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A connected transport with its usage bookkeeping. Only ever used by the
+     * thread that borrowed it.
+     */
+    private final class PooledTransport {
+        private final Transport transport;
+        private long lastUsedAt = System.currentTimeMillis();
+        private int messagesSent;
+        private boolean borrowedFromPool;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        Transport transport() {
+            return transport;
+        }
+
+        long lastUsedAt() {
+            return lastUsedAt;
+        }
+
+        void markUsed() {
+            lastUsedAt = System.currentTimeMillis();
+            messagesSent++;
+        }
+
+        void markBorrowedFromPool() {
+            borrowedFromPool = true;
+        }
+
+        /**
+         * Returns true once after a transport taken from the pool has sent a
+         * message, i.e. when it has proven to be an open, reused connection.
+         */
+        boolean confirmReuse() {
+            boolean reused = borrowedFromPool;
+            borrowedFromPool = false;
+            return reused;
+        }
+
+        boolean isExhausted() {
+            return messagesSent >= maxMessagesPerConnection;
+        }
+    }
+}
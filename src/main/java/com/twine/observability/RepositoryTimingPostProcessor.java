@@ -0,0 +1,42 @@
+package com.twine.observability;
+
+import com.twine.constants.ObservabilityConstants;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds every repository call made on a timed request to its
+ * {@link RequestTiming} as the {@value ObservabilityConstants#PHASE_DB} phase.
+ * <p>
+ * Uses the same Spring Data invocation hook as the
+ * {@code spring.data.repository.invocations} metric, which already measures
+ * each call, so no extra clock reads or proxies are involved.
+ * </p>
+ */
+@Component
+public class RepositoryTimingPostProcessor implements BeanPostProcessor {
+
+    private static final RepositoryMethodInvocationListener LISTENER = invocation -> RequestTiming.recordNanos(
+            ObservabilityConstants.PHASE_DB, invocation.getDuration(TimeUnit.NANOSECONDS));
+
+    /**
+     * Registers the invocation listener on repository factory beans before
+     * they create their repositories.
+     *
+     * @param bean     the bean being initialized
+     * @param beanName the bean name
+     * @return the same bean
+     */
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+            repositoryFactoryBean.addRepositoryFactoryCustomizer(
+                    repositoryFactory -> repositoryFactory.addInvocationListener(LISTENER));
+        }
+        return bean;
+    }
+}
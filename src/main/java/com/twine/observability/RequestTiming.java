@@ -0,0 +1,166 @@
+package com.twine.observability;
+
+import com.twine.constants.ObservabilityConstants;
+
+/**
+ * Per-request breakdown of where the time went, as named phases.
+ * <p>
+ * A timing is bound to the request thread by {@link ServerTimingFilter} and
+ * code on the request path records phases through the static
+ * {@link #record(String, long)}, which is a no-op on threads without an active
+ * timing (schedulers, the outbox dispatcher, the reactive variant). Phases are
+ * accumulated by name with a call count, so repeated work such as several
+ * repository calls shows up as one entry. Phases may nest: {@code authenticate}
+ * includes the {@code password} and {@code db} time spent inside it.
+ * </p>
+ * <p>
+ * The timing is thread-confined and reused by every request served on the
+ * same thread, so recording a phase allocates nothing; only the header value
+ * and the slow-request log line are built as strings. Work handed to other
+ * threads is recorded by the waiting request thread around the hand-off,
+ * including any queueing.
+ * </p>
+ */
+public final class RequestTiming {
+
+    private static final int MAX_PHASES = 16;
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final String[] names = new String[MAX_PHASES];
+    private final long[] nanos = new long[MAX_PHASES];
+    private final int[] counts = new int[MAX_PHASES];
+    private int size;
+    private boolean active;
+    private long startedAt;
+
+    private RequestTiming() {
+    }
+
+    /**
+     * Records a phase that started at the given {@link System#nanoTime()} and
+     * ends now, if the current thread is serving a timed request.
+     *
+     * @param phase     the phase name, a Server-Timing metric name
+     * @param startedAt the {@link System#nanoTime()} at which the phase started
+     */
+    public static void record(String phase, long startedAt) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null && timing.active) {
+            timing.add(phase, System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * Records a phase of known duration, if the current thread is serving a
+     * timed request.
+     *
+     * @param phase         the phase name, a Server-Timing metric name
+     * @param durationNanos the phase duration in nanoseconds
+     */
+    public static void recordNanos(String phase, long durationNanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null && timing.active) {
+            timing.add(phase, durationNanos);
+        }
+    }
+
+    /**
+     * Starts timing a request on the current thread, reusing the thread's
+     * timing from earlier requests.
+     *
+     * @return the active timing
+     */
+    static RequestTiming begin() {
+        RequestTiming timing = CURRENT.get();
+        if (timing == null) {
+            timing = new RequestTiming();
+            CURRENT.set(timing);
+        }
+        timing.size = 0;
+        timing.active = true;
+        timing.startedAt = System.nanoTime();
+        return timing;
+    }
+
+    /**
+     * Stops recording phases for the current request.
+     */
+    void end() {
+        active = false;
+    }
+
+    /**
+     * Returns the time since the request started.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    /**
+     * Formats the phases and the total as a {@code Server-Timing} header value,
+     * e.g. {@code db;dur=3.1;desc="2 calls", total;dur=9.8}.
+     *
+     * @return the header value
+     */
+    String toServerTiming() {
+        StringBuilder header = new StringBuilder(32 + size * 24);
+        for (int i = 0; i < size; i++) {
+            header.append(names[i]).append(";dur=");
+            appendMillis(header, nanos[i]);
+            if (counts[i] > 1) {
+                header.append(";desc=\"").append(counts[i]).append(" calls\"");
+            }
+            header.append(", ");
+        }
+        header.append(ObservabilityConstants.PHASE_TOTAL).append(";dur=");
+        appendMillis(header, elapsedNanos());
+        return header.toString();
+    }
+
+    /**
+     * Appends the phases as {@code <phase>_ms=<millis>} pairs, with a
+     * {@code <phase>_count} pair for phases recorded more than once.
+     *
+     * @param line the log line to append to
+     */
+    void appendPhases(StringBuilder line) {
+        for (int i = 0; i < size; i++) {
+            line.append(' ').append(names[i]).append("_ms=");
+            appendMillis(line, nanos[i]);
+            if (counts[i] > 1) {
+                line.append(' ').append(names[i]).append("_count=").append(counts[i]);
+            }
+        }
+    }
+
+    /**
+     * Appends a duration in milliseconds with one decimal place.
+     *
+     * @param target the builder to append to
+     * @param nanos  the duration in nanoseconds
+     */
+    static void appendMillis(StringBuilder target, long nanos) {
+        long tenths = (nanos + 50_000) / 100_000;
+        target.append(tenths / 10).append('.').append(tenths % 10);
+    }
+
+    // --- Private Helper Methods ---
+
+    private void add(String phase, long durationNanos) {
+        for (int i = 0; i < size; i++) {
+            if (names[i] == phase || names[i].equals(phase)) {
+                nanos[i] += durationNanos;
+                counts[i]++;
+                return;
+            }
+        }
+        if (size < MAX_PHASES) {
+            names[size] = phase;
+            nanos[size] = durationNanos;
+            counts[size] = 1;
+            size++;
+        }
+    }
+}
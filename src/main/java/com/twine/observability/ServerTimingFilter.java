@@ -0,0 +1,146 @@
+package com.twine.observability;
+
+import com.twine.constants.ObservabilityConstants;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every request as a {@link RequestTiming} and reports the phase
+ * breakdown.
+ * <p>
+ * The breakdown is sent as a {@code Server-Timing} response header when
+ * {@value ObservabilityConstants#SERVER_TIMING_ENABLED_PROPERTY} is set, or
+ * when the request carries the
+ * {@value ObservabilityConstants#SERVER_TIMING_REQUEST_HEADER} header with the
+ * configured {@value ObservabilityConstants#SERVER_TIMING_TOKEN_PROPERTY}, so
+ * operators can inspect a single production request without exposing timings
+ * to every client. The header is added just before the response commits,
+ * since controllers flush their JSON body before the filter chain returns.
+ * </p>
+ * <p>
+ * Requests slower than
+ * {@value ObservabilityConstants#SERVER_TIMING_SLOW_REQUEST_THRESHOLD_PROPERTY}
+ * milliseconds are logged once at WARN as {@code key=value} pairs, whether or
+ * not the header was sent. The filter runs ahead of Spring Security, so rate
+ * limiting and JWT authentication are included in the total.
+ * </p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final byte[] token;
+    private final long slowRequestThresholdNanos;
+
+    public ServerTimingFilter(
+            @Value("${" + ObservabilityConstants.SERVER_TIMING_ENABLED_PROPERTY + ":false}") boolean enabled,
+            @Value("${" + ObservabilityConstants.SERVER_TIMING_TOKEN_PROPERTY + ":}") String token,
+            @Value("${" + ObservabilityConstants.SERVER_TIMING_SLOW_REQUEST_THRESHOLD_PROPERTY + ":1000}")
+            long slowRequestThresholdMillis) {
+        this.enabled = enabled;
+        this.token = StringUtils.hasText(token) ? token.getBytes(StandardCharsets.UTF_8) : null;
+        this.slowRequestThresholdNanos = slowRequestThresholdMillis > 0
+                ? TimeUnit.MILLISECONDS.toNanos(slowRequestThresholdMillis)
+                : Long.MAX_VALUE;
+    }
+
+    /**
+     * Times the request, adds the {@code Server-Timing} header if allowed and
+     * logs the breakdown of slow requests.
+     *
+     * @param request     the HTTP servlet request
+     * @param response    the HTTP servlet response
+     * @param filterChain the filter chain
+     * @throws ServletException if a servlet error occurs
+     * @throws IOException      if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        ServerTimingResponse timedResponse = isHeaderAllowed(request) ? new ServerTimingResponse(response, timing) : null;
+        try {
+            filterChain.doFilter(request, timedResponse != null ? timedResponse : response);
+        } finally {
+            if (timedResponse != null) {
+                timedResponse.writeHeader();
+            }
+            timing.end();
+            long elapsedNanos = timing.elapsedNanos();
+            if (elapsedNanos >= slowRequestThresholdNanos) {
+                logSlowRequest(request, response, timing, elapsedNanos);
+            }
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private boolean isHeaderAllowed(HttpServletRequest request) {
+        if (enabled) {
+            return true;
+        }
+        if (token == null) {
+            return false;
+        }
+        String presented = request.getHeader(ObservabilityConstants.SERVER_TIMING_REQUEST_HEADER);
+        return presented != null && MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void logSlowRequest(HttpServletRequest request, HttpServletResponse response, RequestTiming timing,
+            long elapsedNanos) {
+        StringBuilder line = new StringBuilder(160)
+                .append("slow_request method=").append(request.getMethod())
+                .append(" path=").append(request.getRequestURI())
+                .append(" status=").append(response.getStatus())
+                .append(" total_ms=");
+        RequestTiming.appendMillis(line, elapsedNanos);
+        timing.appendPhases(line);
+        log.warn(line.toString());
+    }
+
+    /**
+     * Response that adds the {@code Server-Timing} header once, right before
+     * it is committed or, if nothing committed it, when the chain returns.
+     */
+    private static final class ServerTimingResponse extends OnCommittedResponseWrapper {
+        private final RequestTiming timing;
+        private boolean written;
+
+        private ServerTimingResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeader();
+        }
+
+        void writeHeader() {
+            if (!written && !isCommitted()) {
+                written = true;
+                setHeader(ObservabilityConstants.SERVER_TIMING_HEADER, timing.toServerTiming());
+            }
+        }
+    }
+}
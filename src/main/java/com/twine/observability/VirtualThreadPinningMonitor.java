@@ -0,0 +1,122 @@
+package com.twine.observability;
+
+import com.twine.constants.ObservabilityConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that pin their carrier thread, active only when
+ * {@code spring.threads.virtual.enabled} is set on Java 21 or later.
+ * <p>
+ * A virtual thread that blocks inside a {@code synchronized} block or a native
+ * frame cannot unmount, so it holds one of the few carrier threads for the
+ * whole wait; enough of them at once stall every other request. The JDK
+ * records each such wait longer than
+ * {@value ObservabilityConstants#PINNING_THRESHOLD_PROPERTY} as a JFR
+ * {@value ObservabilityConstants#JFR_VIRTUAL_THREAD_PINNED_EVENT} event. This
+ * monitor streams those events in-process, counts them in
+ * {@code twine.threads.virtual.pinned} and logs the stack of every distinct
+ * pinning site once at WARN (later occurrences at DEBUG).
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private final Duration threshold;
+    private final int stackDepth;
+    private final Timer pinnedTimer;
+    private final Counter pinnedEvents;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${" + ObservabilityConstants.PINNING_THRESHOLD_PROPERTY + ":20}") long thresholdMillis,
+            @Value("${" + ObservabilityConstants.PINNING_STACK_DEPTH_PROPERTY + ":12}") int stackDepth) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.stackDepth = stackDepth;
+        this.pinnedTimer = Timer.builder("twine.threads.virtual.pinned.duration")
+                .description("Time virtual threads spent blocked while pinned to their carrier")
+                .register(meterRegistry);
+        this.pinnedEvents = Counter.builder("twine.threads.virtual.pinned")
+                .description("Virtual threads that blocked while pinned to their carrier")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(ObservabilityConstants.JFR_VIRTUAL_THREAD_PINNED_EVENT)
+                .withThreshold(threshold)
+                .withStackTrace();
+        recordingStream.onEvent(ObservabilityConstants.JFR_VIRTUAL_THREAD_PINNED_EVENT, this::report);
+        recordingStream.startAsync();
+        log.info("Reporting virtual thread pinning longer than {} ms", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Records a pinning event and logs its stack, at WARN the first time the
+     * same top frames are seen.
+     *
+     * @param event the JFR pinning event
+     */
+    private void report(RecordedEvent event) {
+        pinnedEvents.increment();
+        pinnedTimer.record(event.getDuration());
+        String stack = formatStack(event.getStackTrace());
+        String thread = event.getThread() != null ? event.getThread().getJavaName() : "unknown";
+        if (reportedSites.add(stack)) {
+            log.warn("Virtual thread {} pinned its carrier for {} ms at:\n{}",
+                    thread, event.getDuration().toMillis(), stack);
+        } else {
+            log.debug("Virtual thread {} pinned its carrier for {} ms at {}",
+                    thread, event.getDuration().toMillis(), stack.lines().findFirst().orElse(""));
+        }
+    }
+
+    private String formatStack(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .limit(stackDepth)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : ""))
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -1,8 +1,14 @@
 package com.twine.repository;
 
 import com.twine.entity.AuthUser;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,4 +30,57 @@ public interface AuthUserRepository extends JpaRepository<AuthUser, Long> {
      * @return true if an AuthUser exists, false otherwise
      */
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Checks if an AuthUser exists with the given normalized email address,
+     * using the unique index on {@code email_normalized}.
+     *
+     * @param emailNormalized the trimmed, lower-cased email address
+     * @return true if an AuthUser exists, false otherwise
+     */
+    boolean existsByEmailNormalized(String emailNormalized);
+
+    /**
+     * Lists the normalized emails of users with an id greater than the given
+     * one, in id order, for keyset-paginated scans.
+     *
+     * @param afterId  the exclusive lower bound of the user id
+     * @param pageable the page size
+     * @return rows of {@code [id, emailNormalized]}
+     */
+    @Query("select u.id, u.emailNormalized from AuthUser u where u.id > :afterId order by u.id")
+    List<Object[]> findNormalizedEmailsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * Fills in the normalized email of users created before the column existed.
+     *
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Transactional
+    @Query("update AuthUser u set u.emailNormalized = lower(trim(u.email)) where u.emailNormalized is null")
+    int backfillNormalizedEmails();
+
+    /**
+     * Lists the current token version of every user whose tokens have been
+     * invalidated at least once.
+     *
+     * @return rows of {@code [id, tokenVersion]}
+     */
+    @Query("select u.id, u.tokenVersion from AuthUser u where u.tokenVersion > 0")
+    List<Object[]> findBumpedTokenVersions();
+
+    /**
+     * Replaces the password hash of a user by id, for hash upgrades on login.
+     * Bypasses the entity listeners, so callers must invalidate the principal
+     * cache themselves.
+     *
+     * @param id       the user id
+     * @param password the new password hash
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Transactional
+    @Query("update AuthUser u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+}
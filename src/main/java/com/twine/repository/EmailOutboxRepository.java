@@ -0,0 +1,110 @@
+package com.twine.repository;
+
+import com.twine.entity.EmailOutbox;
+import com.twine.entity.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for managing outgoing emails in the outbox.
+ */
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+    /**
+     * Atomically claims a batch of due messages for this dispatcher. Rows locked
+     * by a concurrent claim are skipped, so several nodes can dispatch without
+     * sending a message twice. Messages whose previous claim lease ran out
+     * (e.g. after a crash mid-send) are claimed again.
+     * <p>
+     * Deliberately not {@link Modifying}: a modifying query is run with
+     * {@code executeUpdate()}, which only returns a row count, whereas the
+     * claimed rows are needed. The statement is run as a query instead, which
+     * works because PostgreSQL returns the {@code returning} rows as a result
+     * set; the update itself is committed by the transaction of this method.
+     * </p>
+     *
+     * @param now        the current time
+     * @param leaseUntil when the claim lease runs out
+     * @param batchSize  the maximum number of messages to claim
+     * @return the claimed messages
+     */
+    @Transactional
+    @Query(value = """
+            update email_outbox
+               set status = 'SENDING', attempts = attempts + 1, next_attempt_at = :leaseUntil
+             where id in (select id from email_outbox
+                           where status in ('PENDING', 'SENDING') and next_attempt_at <= :now
+                           order by next_attempt_at
+                           limit :batchSize
+                             for update skip locked)
+            returning *
+            """, nativeQuery = true)
+    List<EmailOutbox> claimBatch(@Param("now") LocalDateTime now,
+                                 @Param("leaseUntil") LocalDateTime leaseUntil,
+                                 @Param("batchSize") int batchSize);
+
+    /**
+     * Marks a claimed message as delivered and clears its OTP code.
+     *
+     * @param id     the message id
+     * @param sentAt the delivery time
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Transactional
+    @Query("update EmailOutbox e set e.status = com.twine.entity.OutboxStatus.SENT, e.sentAt = :sentAt, "
+            + "e.otpCode = null, e.lastError = null where e.id = :id")
+    int markSent(@Param("id") Long id, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Records a failed delivery attempt and schedules a retry.
+     *
+     * @param id            the message id
+     * @param nextAttemptAt when the message is next due
+     * @param lastError     the failure description
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Transactional
+    @Query("update EmailOutbox e set e.status = com.twine.entity.OutboxStatus.PENDING, "
+            + "e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError where e.id = :id")
+    int markRetry(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("lastError") String lastError);
+
+    /**
+     * Dead-letters a message whose delivery is futile and clears its OTP code.
+     *
+     * @param id        the message id
+     * @param lastError the failure description
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Transactional
+    @Query("update EmailOutbox e set e.status = com.twine.entity.OutboxStatus.DEAD, e.otpCode = null, "
+            + "e.lastError = :lastError where e.id = :id")
+    int markDead(@Param("id") Long id, @Param("lastError") String lastError);
+
+    /**
+     * Deletes up to {@code batchSize} sent or dead messages created before the
+     * cutoff. Rows locked by a concurrent purge are skipped.
+     *
+     * @param cutoff    the creation time before which finished messages are deleted
+     * @param batchSize the maximum number of rows to delete
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            delete from email_outbox
+             where id in (select id from email_outbox
+                           where status in ('SENT', 'DEAD') and created_at < :cutoff
+                           limit :batchSize
+                             for update skip locked)
+            """, nativeQuery = true)
+    int deleteFinishedBatch(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+}
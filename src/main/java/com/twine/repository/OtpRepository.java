@@ -2,8 +2,14 @@ package com.twine.repository;
 
 import com.twine.entity.Otp;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -32,10 +38,78 @@ public interface OtpRepository extends JpaRepository<Otp, Long> {
     Optional<Otp> findTopByEmailAndUsedFalseOrderByCreatedAtDesc(String email);
 
     /**
-     * Finds an unused OTP for the given email, ordered by expiry time descending.
+     * Finds the latest OTP issued to the given email, used or not. Limited to one
+     * row and served by the {@code (email, expiry_time)} index.
      *
      * @param email the recipient's email address
-     * @return an Optional containing the unused OTP if found, or empty otherwise
+     * @return an Optional containing the latest OTP if found, or empty otherwise
      */
-    Optional<Otp> findByEmailAndUsedFalseOrderByExpiryTimeDesc(String email);
+    Optional<Otp> findFirstByEmailOrderByExpiryTimeDesc(String email);
+
+    /**
+     * Verifies a code against the latest OTP issued to the email in a single
+     * statement. A matching, unexpired code is marked as used; a wrong code
+     * increments the failed-attempt counter and marks the OTP as used once the
+     * counter reaches {@code maxAttempts}. The row is locked by the update, so
+     * concurrent verifications of the same OTP are serialized and only the first
+     * matching one succeeds.
+     * <p>
+     * Each returned row holds {@code [matched, live, used]}: whether the code
+     * matched, whether the OTP was still unexpired at {@code now}, and whether it
+     * is now used. No row is returned if the latest OTP was already used or none
+     * exists.
+     * </p>
+     *
+     * @param email       the recipient's email address
+     * @param otpCode     the OTP code presented by the user
+     * @param now         the reference time for expiry
+     * @param maxAttempts the number of wrong codes after which the OTP is invalidated
+     * @return at most one row describing the outcome
+     */
+    @Transactional
+    @Query(value = """
+            update otp_records o
+               set used = case when o.otp_code = :otpCode then o.expiry_time > :now
+                               else o.failed_attempts + 1 >= :maxAttempts end,
+                   failed_attempts = o.failed_attempts
+                           + case when o.otp_code = :otpCode then 0 else 1 end
+             where o.id = (select id from otp_records
+                            where email = :email
+                            order by expiry_time desc
+                            limit 1)
+               and o.used = false
+            returning o.otp_code = :otpCode, o.expiry_time > :now, o.used
+            """, nativeQuery = true)
+    List<Object[]> verifyLatest(@Param("email") String email, @Param("otpCode") String otpCode,
+            @Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Deletes up to {@code batchSize} OTPs that expired before the cutoff. Rows
+     * locked by concurrent transactions are skipped, so each chunk is a short
+     * transaction that only locks the rows it deletes.
+     *
+     * @param cutoff    the expiry time before which OTPs are deleted
+     * @param batchSize the maximum number of rows to delete
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            delete from otp_records
+             where id in (select id from otp_records
+                           where expiry_time < :cutoff
+                           limit :batchSize
+                             for update skip locked)
+            """, nativeQuery = true)
+    int deleteExpiredBatch(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+
+    /**
+     * Returns the planner's row estimate for {@code otp_records}, which is
+     * maintained by autovacuum and costs no table scan.
+     *
+     * @return the estimated number of rows
+     */
+    @Query(value = "select cast(reltuples as bigint) from pg_class where relname = 'otp_records'",
+            nativeQuery = true)
+    Long estimateRowCount();
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.twine.repository;
+
+import com.twine.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing refresh tokens in the database.
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    /**
+     * Finds a refresh token by its hash together with its user in a single
+     * indexed query.
+     *
+     * @param tokenHash the SHA-256 hash of the raw refresh token
+     * @return an Optional containing the refresh token if found, or empty
+     *         otherwise
+     */
+    @Query("select r from RefreshToken r join fetch r.user where r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashWithUser(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Revokes a single refresh token if it has not been revoked yet.
+     *
+     * @param id the refresh token id
+     * @return 1 if this call revoked the token, 0 if it was already revoked
+     */
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true where r.id = :id and r.revoked = false")
+    int revokeIfActive(@Param("id") Long id);
+
+    /**
+     * Revokes every active refresh token of a token family.
+     *
+     * @param familyId the family id
+     * @return the number of revoked tokens
+     */
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true where r.familyId = :familyId and r.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    /**
+     * Revokes every active refresh token of a user.
+     *
+     * @param userId the user id
+     * @return the number of revoked tokens
+     */
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true where r.user.id = :userId and r.revoked = false")
+    int revokeAllForUser(@Param("userId") Long userId);
+
+    /**
+     * Deletes up to {@code batchSize} refresh tokens that expired before the
+     * cutoff, whether consumed, revoked or never used. Rows locked by a
+     * concurrent purge are skipped.
+     *
+     * @param cutoff    the expiry time before which tokens are deleted
+     * @param batchSize the maximum number of rows to delete
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            delete from refresh_tokens
+             where id in (select id from refresh_tokens
+                           where expires_at < :cutoff
+                           limit :batchSize
+                             for update skip locked)
+            """, nativeQuery = true)
+    int deleteExpiredBatch(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+}
\ No newline at end of file
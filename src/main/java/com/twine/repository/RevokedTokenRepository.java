@@ -0,0 +1,43 @@
+package com.twine.repository;
+
+import com.twine.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for managing revoked access tokens in the database.
+ */
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+    /**
+     * Lists the ids of tokens revoked since the given instant.
+     *
+     * @param since the lower bound of the revocation time (inclusive)
+     * @return the revoked token ids
+     */
+    @Query("select r.jti from RevokedToken r where r.revokedAt >= :since")
+    List<String> findJtisRevokedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Lists the ids of revoked tokens that have not expired yet.
+     *
+     * @param now the current time
+     * @return the revoked token ids
+     */
+    @Query("select r.jti from RevokedToken r where r.expiresAt > :now")
+    List<String> findActiveJtis(@Param("now") LocalDateTime now);
+
+    /**
+     * Deletes revocations of tokens that have expired on their own.
+     *
+     * @param now the current time
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
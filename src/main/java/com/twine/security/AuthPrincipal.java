@@ -0,0 +1,95 @@
+package com.twine.security;
+
+import com.twine.entity.AuthUser;
+import com.twine.entity.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact, immutable snapshot of an {@link AuthUser} used as the Spring
+ * Security principal during login.
+ * <p>
+ * Unlike the managed JPA entity it can be cached and shared across threads;
+ * it carries only what authentication and token issuance need.
+ * </p>
+ *
+ * @param id           the user id
+ * @param email        the user's email address
+ * @param password     the stored password hash
+ * @param role         the user's role
+ * @param enabled      whether the user may log in
+ * @param tokenVersion the user's current token version
+ */
+public record AuthPrincipal(
+        Long id,
+        String email,
+        String password,
+        Role role,
+        boolean enabled,
+        int tokenVersion) implements UserDetails {
+
+    private static final Map<Role, List<GrantedAuthority>> AUTHORITIES_BY_ROLE = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            AUTHORITIES_BY_ROLE.put(role, List.of(new SimpleGrantedAuthority(role.name())));
+        }
+    }
+
+    /**
+     * Creates a principal snapshot of the given user.
+     *
+     * @param authUser the user entity
+     * @return the principal
+     */
+    public static AuthPrincipal from(AuthUser authUser) {
+        return new AuthPrincipal(
+                authUser.getId(),
+                authUser.getEmail(),
+                authUser.getPassword(),
+                authUser.getRole(),
+                authUser.isEnabled(),
+                authUser.getTokenVersion());
+    }
+
+    /**
+     * Returns a copy of this principal with a new password hash.
+     *
+     * @param newPassword the new password hash
+     * @return the updated principal
+     */
+    public AuthPrincipal withPassword(String newPassword) {
+        return new AuthPrincipal(id, email, newPassword, role, enabled, tokenVersion);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES_BY_ROLE.get(role);
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthPrincipal[id=" + id + ", email=" + email + ", role=" + role + "]";
+    }
+}
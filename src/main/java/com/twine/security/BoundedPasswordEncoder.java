@@ -0,0 +1,46 @@
+package com.twine.security;
+
+import com.twine.constants.ObservabilityConstants;
+import com.twine.observability.RequestTiming;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Password encoder that runs the delegate's encode and verify operations on
+ * the {@link PasswordHashingExecutor} instead of the calling request thread.
+ * The wait, including any queueing, is recorded as the
+ * {@value ObservabilityConstants#PHASE_PASSWORD} request timing phase.
+ */
+@RequiredArgsConstructor
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long startedAt = System.nanoTime();
+        try {
+            return passwordHashingExecutor.execute(PasswordHashingExecutor.Operation.ENCODE,
+                    () -> delegate.encode(rawPassword));
+        } finally {
+            RequestTiming.record(ObservabilityConstants.PHASE_PASSWORD, startedAt);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long startedAt = System.nanoTime();
+        try {
+            return passwordHashingExecutor.execute(PasswordHashingExecutor.Operation.VERIFY,
+                    () -> delegate.matches(rawPassword, encodedPassword));
+        } finally {
+            RequestTiming.record(ObservabilityConstants.PHASE_PASSWORD, startedAt);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -1,32 +1,71 @@
 package com.twine.security;
 
 import com.twine.constants.AuthConstants;
+import com.twine.constants.ObservabilityConstants;
+import com.twine.entity.Role;
+import com.twine.observability.RequestTiming;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * JWT authentication filter that validates JWT tokens in incoming HTTP requests
  * and sets the authentication in the security context if valid.
+ * <p>
+ * The authentication is built entirely from the verified token claims (user id,
+ * role and token version), so authenticated requests never touch the
+ * database. Tokens whose version is older than the user's current version, or
+ * whose {@code jti} has been revoked, are ignored. Ignored tokens are counted
+ * as {@code twine.auth.token.rejected} by reason; the counters are registered
+ * up front, so accepted requests pay nothing for them. Verification and the
+ * version and revocation checks are recorded as the
+ * {@value ObservabilityConstants#PHASE_JWT_VERIFY} request timing phase.
+ * </p>
  */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Map<String, List<GrantedAuthority>> AUTHORITIES_BY_ROLE = Arrays.stream(Role.values())
+            .collect(Collectors.toUnmodifiableMap(Role::name,
+                    role -> List.of(new SimpleGrantedAuthority(role.name()))));
+
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final TokenRevocationService tokenRevocationService;
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
+    private final Counter invalidTokens;
+    private final Counter incompleteTokens;
+    private final Counter staleTokens;
+    private final Counter revokedTokens;
+
+    public JwtAuthenticationFilter(JwtService jwtService, TokenVersionRegistry tokenVersionRegistry,
+            TokenRevocationService tokenRevocationService, MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.tokenRevocationService = tokenRevocationService;
+        this.invalidTokens = rejectedTokens(meterRegistry, "invalid");
+        this.incompleteTokens = rejectedTokens(meterRegistry, "incomplete");
+        this.staleTokens = rejectedTokens(meterRegistry, "stale");
+        this.revokedTokens = rejectedTokens(meterRegistry, "revoked");
+    }
 
     /**
      * Filters incoming HTTP requests to validate JWT tokens and set authentication
@@ -44,30 +83,72 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain) throws ServletException, IOException {
         final String authHeader = request.getHeader(AuthConstants.AUTHORIZATION_HEADER);
-        final String jwt;
-        final String userEmail;
 
-        if (authHeader == null || !authHeader.startsWith(AuthConstants.BEARER_PREFIX)) {
+        if (authHeader == null || !authHeader.startsWith(AuthConstants.BEARER_PREFIX)
+                || SecurityContextHolder.getContext().getAuthentication() != null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwt = authHeader.substring(AuthConstants.BEARER_PREFIX.length());
-        userEmail = jwtService.extractUsername(jwt);
-
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+        final String jwt = authHeader.substring(AuthConstants.BEARER_PREFIX.length());
+        final long startedAt = System.nanoTime();
+        final VerifiedToken token;
+        try {
+            token = jwtService.verifyToken(jwt);
+        } catch (JwtException | IllegalArgumentException e) {
+            RequestTiming.record(ObservabilityConstants.PHASE_JWT_VERIFY, startedAt);
+            invalidTokens.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities());
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+        Counter rejection = findRejection(token);
+        RequestTiming.record(ObservabilityConstants.PHASE_JWT_VERIFY, startedAt);
+        if (rejection == null) {
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    token,
+                    null,
+                    AUTHORITIES_BY_ROLE.get(token.getRole()));
+            authToken.setDetails(authenticationDetailsSource.buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+        } else {
+            rejection.increment();
         }
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Checks that the token carries the claims needed to authenticate without a
+     * user lookup and that it has been neither invalidated nor revoked.
+     *
+     * @param token the verified token
+     * @return the counter for the reason the token cannot be used, or null if
+     *         it can authenticate the request
+     */
+    private Counter findRejection(VerifiedToken token) {
+        Long userId = token.getUserId();
+        Integer tokenVersion = token.getTokenVersion();
+        if (token.getSubject() == null
+                || userId == null
+                || tokenVersion == null
+                || !AUTHORITIES_BY_ROLE.containsKey(token.getRole())) {
+            return incompleteTokens;
+        }
+        if (!tokenVersionRegistry.isCurrent(userId, tokenVersion)) {
+            return staleTokens;
+        }
+        if (token.getJti() != null && tokenRevocationService.isRevoked(token.getJti())) {
+            return revokedTokens;
+        }
+        return null;
+    }
+
+    private static Counter rejectedTokens(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("twine.auth.token.rejected")
+                .description("Bearer tokens that did not authenticate the request")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,235 @@
+package com.twine.security;
+
+import com.twine.constants.AuthConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Rotating ring of ES256 (P-256) keys used to sign and verify JWTs.
+ * <p>
+ * Keys are read from the directory configured by
+ * {@value AuthConstants#JWT_KEYS_LOCATION_PROPERTY}: each key id {@code kid}
+ * has a PEM encoded public key {@code <kid>.pub} (X.509) and, for keys that may
+ * still sign, a PEM encoded private key {@code <kid>.key} (PKCS#8). The
+ * greatest {@code kid} with a private key signs new tokens, so date-based ids
+ * such as {@code 2026-10-01} rotate naturally. Retired keys keep only their
+ * {@code .pub} file until the tokens they signed have expired.
+ * </p>
+ * <p>
+ * The directory is re-scanned on a fixed interval and the ring is swapped
+ * atomically, so keys can be rotated on every node without a restart. When no
+ * directory is configured startup fails, unless
+ * {@value AuthConstants#JWT_KEYS_ALLOW_EPHEMERAL_PROPERTY} is set (the local
+ * profile does), in which case a single ephemeral key is generated.
+ * </p>
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private static final String PUBLIC_KEY_SUFFIX = ".pub";
+    private static final String PRIVATE_KEY_SUFFIX = ".key";
+    private static final int P256_COORDINATE_LENGTH = 32;
+
+    private final String keysLocation;
+    private volatile Snapshot snapshot;
+
+    public JwtKeyRing(
+            @Value("${" + AuthConstants.JWT_KEYS_LOCATION_PROPERTY + ":}") String keysLocation,
+            @Value("${" + AuthConstants.JWT_KEYS_ALLOW_EPHEMERAL_PROPERTY + ":false}") boolean allowEphemeral)
+            throws GeneralSecurityException, IOException {
+        this.keysLocation = keysLocation;
+        if (StringUtils.hasText(keysLocation)) {
+            this.snapshot = loadSnapshot(Path.of(keysLocation));
+        } else if (allowEphemeral) {
+            this.snapshot = ephemeralSnapshot();
+        } else {
+            throw new IllegalStateException("No JWT signing keys configured: set "
+                    + AuthConstants.JWT_KEYS_LOCATION_PROPERTY + " to the key directory, or "
+                    + AuthConstants.JWT_KEYS_ALLOW_EPHEMERAL_PROPERTY + "=true for local development");
+        }
+    }
+
+    /**
+     * Returns the key currently used for signing together with its id.
+     *
+     * @return the active signing key
+     */
+    public SigningKey getActiveSigningKey() {
+        return snapshot.activeSigningKey();
+    }
+
+    /**
+     * Looks up the verification key for a key id.
+     *
+     * @param kid the key id from the token header
+     * @return the public key, or null if the key id is unknown
+     */
+    public ECPublicKey getVerificationKey(String kid) {
+        return snapshot.verificationKeys().get(kid);
+    }
+
+    /**
+     * Returns the public keys of the ring as a JSON Web Key Set.
+     *
+     * @return the JWKS document
+     */
+    public Map<String, Object> getJwks() {
+        return snapshot.jwks();
+    }
+
+    /**
+     * Re-reads the key directory and swaps in the new ring. A directory that
+     * cannot be read or has no signing key leaves the current ring in place.
+     */
+    @Scheduled(fixedDelayString = "${" + AuthConstants.JWT_KEYS_RELOAD_INTERVAL_PROPERTY + ":60000}",
+            initialDelayString = "${" + AuthConstants.JWT_KEYS_RELOAD_INTERVAL_PROPERTY + ":60000}")
+    public void reload() {
+        if (!StringUtils.hasText(keysLocation)) {
+            return;
+        }
+        try {
+            Snapshot reloaded = loadSnapshot(Path.of(keysLocation));
+            if (!reloaded.verificationKeys().keySet().equals(snapshot.verificationKeys().keySet())
+                    || !reloaded.activeSigningKey().kid().equals(snapshot.activeSigningKey().kid())) {
+                log.info("JWT key ring reloaded: active kid={}, verification kids={}",
+                        reloaded.activeSigningKey().kid(), reloaded.verificationKeys().keySet());
+            }
+            this.snapshot = reloaded;
+        } catch (GeneralSecurityException | IOException | IllegalStateException e) {
+            log.error("Failed to reload JWT keys from {}; keeping current key ring", keysLocation, e);
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Loads every key pair in the directory into an immutable snapshot.
+     *
+     * @param directory the key directory
+     * @return the loaded snapshot
+     */
+    private Snapshot loadSnapshot(Path directory) throws GeneralSecurityException, IOException {
+        KeyFactory keyFactory = KeyFactory.getInstance("EC");
+        TreeMap<String, ECPublicKey> publicKeys = new TreeMap<>();
+        TreeMap<String, PrivateKey> privateKeys = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(PUBLIC_KEY_SUFFIX)) {
+                    publicKeys.put(stripSuffix(fileName, PUBLIC_KEY_SUFFIX), (ECPublicKey) keyFactory
+                            .generatePublic(new X509EncodedKeySpec(readPem(file))));
+                } else if (fileName.endsWith(PRIVATE_KEY_SUFFIX)) {
+                    privateKeys.put(stripSuffix(fileName, PRIVATE_KEY_SUFFIX), keyFactory
+                            .generatePrivate(new PKCS8EncodedKeySpec(readPem(file))));
+                }
+            }
+        }
+        privateKeys.keySet().retainAll(publicKeys.keySet());
+        if (privateKeys.isEmpty()) {
+            throw new IllegalStateException("No JWT signing key pair found in " + directory);
+        }
+        String activeKid = privateKeys.lastKey();
+        return buildSnapshot(activeKid, privateKeys.get(activeKid), publicKeys);
+    }
+
+    /**
+     * Generates a single in-memory key pair for development setups.
+     *
+     * @return a snapshot holding the generated key
+     */
+    private Snapshot ephemeralSnapshot() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        String kid = UUID.randomUUID().toString();
+        log.warn("No {} configured; generated ephemeral JWT signing key {}. "
+                + "Tokens will not survive a restart or validate on other nodes.",
+                AuthConstants.JWT_KEYS_LOCATION_PROPERTY, kid);
+        return buildSnapshot(kid, keyPair.getPrivate(), Map.of(kid, (ECPublicKey) keyPair.getPublic()));
+    }
+
+    private Snapshot buildSnapshot(String activeKid, PrivateKey activeSigningKey,
+            Map<String, ECPublicKey> publicKeys) {
+        List<Map<String, Object>> jwks = new ArrayList<>(publicKeys.size());
+        publicKeys.forEach((kid, key) -> jwks.add(toJwk(kid, key)));
+        return new Snapshot(new SigningKey(activeKid, activeSigningKey), Map.copyOf(publicKeys),
+                Map.of("keys", Collections.unmodifiableList(jwks)));
+    }
+
+    private Map<String, Object> toJwk(String kid, ECPublicKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("kid", kid);
+        jwk.put("x", encodeCoordinate(key.getW().getAffineX()));
+        jwk.put("y", encodeCoordinate(key.getW().getAffineY()));
+        return Collections.unmodifiableMap(jwk);
+    }
+
+    /**
+     * Encodes an EC point coordinate as a fixed-length, unsigned base64url value.
+     */
+    private String encodeCoordinate(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[P256_COORDINATE_LENGTH];
+        int length = Math.min(bytes.length, P256_COORDINATE_LENGTH);
+        System.arraycopy(bytes, bytes.length - length, fixed, P256_COORDINATE_LENGTH - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private byte[] readPem(Path file) throws IOException {
+        String pem = Files.readString(file, StandardCharsets.US_ASCII)
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "");
+        return Base64.getMimeDecoder().decode(pem);
+    }
+
+    private String stripSuffix(String fileName, String suffix) {
+        return fileName.substring(0, fileName.length() - suffix.length());
+    }
+
+    /**
+     * A private signing key and the id published for it.
+     *
+     * @param kid        the key id written to the token header
+     * @param privateKey the ES256 private key
+     */
+    public record SigningKey(String kid, PrivateKey privateKey) {
+    }
+
+    /**
+     * Immutable state of the key ring, swapped as a whole on reload.
+     */
+    private record Snapshot(SigningKey activeSigningKey, Map<String, ECPublicKey> verificationKeys,
+            Map<String, Object> jwks) {
+    }
+}
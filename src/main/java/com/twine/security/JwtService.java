@@ -2,32 +2,125 @@ package com.twine.security;
 
 import com.twine.constants.AuthConstants;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
  * Service for handling JWT (JSON Web Token) operations such as token
  * generation, validation, and extraction of claims.
+ * <p>
+ * Tokens are signed with ES256 by the active key of the {@link JwtKeyRing} and
+ * carry its id in the {@code kid} header. The parser is built once at startup
+ * and resolves the verification key by {@code kid} with a single map lookup.
+ * Tokens without a {@code kid} were issued with the legacy HS256 secret; they
+ * are only accepted while {@value AuthConstants#JWT_LEGACY_ENABLED_PROPERTY}
+ * is set and before {@value AuthConstants#JWT_LEGACY_ACCEPT_UNTIL_PROPERTY},
+ * the date after which the fallback is removed, and are rejected otherwise.
+ * Verification results are served from the {@link VerifiedTokenCache} when it
+ * is enabled.
+ * </p>
+ * <p>
+ * Signing and actual signature verification (cache misses) are timed as
+ * {@code twine.jwt.sign} and {@code twine.jwt.verify}, the latter tagged with
+ * whether the token was valid.
+ * </p>
  */
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class JwtService {
 
-    @Value("${" + AuthConstants.JWT_SECRET_PROPERTY + "}")
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtKeyRing jwtKeyRing;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${" + AuthConstants.JWT_SECRET_PROPERTY + ":}")
     private String secretKey;
 
+    @Value("${" + AuthConstants.JWT_LEGACY_ENABLED_PROPERTY + ":false}")
+    private boolean legacyEnabled;
+
+    @Value("${" + AuthConstants.JWT_LEGACY_ACCEPT_UNTIL_PROPERTY + ":}")
+    private String legacyAcceptUntil;
+
     @Value("${" + AuthConstants.JWT_EXPIRATION_PROPERTY + "}")
     private long jwtExpiration;
 
+    private Key legacySigningKey;
+    private Instant legacyDeadline;
+    private JwtParser jwtParser;
+    private Timer signTimer;
+    private Timer validVerifyTimer;
+    private Timer invalidVerifyTimer;
+
+    /**
+     * Derives the legacy HMAC key if the legacy fallback is enabled, builds the
+     * shared parser, which resolves verification keys from the key ring by
+     * {@code kid}, and registers the signing and verification timers.
+     *
+     * @throws IllegalStateException if the legacy fallback is enabled without a
+     *                               secret or a removal date
+     */
+    @PostConstruct
+    void init() {
+        if (legacyEnabled) {
+            initLegacyFallback();
+        }
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveVerificationKey(header);
+                    }
+                })
+                .build();
+        this.signTimer = Timer.builder("twine.jwt.sign")
+                .description("Time spent building and signing a JWT")
+                .register(meterRegistry);
+        this.validVerifyTimer = jwtVerifications("valid");
+        this.invalidVerifyTimer = jwtVerifications("invalid");
+    }
+
+    /**
+     * Parses and verifies the given JWT token at most once, reusing a cached
+     * result for tokens that were already verified.
+     *
+     * @param token the JWT token
+     * @return the verified token with its subject, expiry and claims
+     * @throws JwtException if the token is malformed, has an invalid signature or
+     *                      is expired
+     */
+    public VerifiedToken verifyToken(String token) {
+        return verifiedTokenCache.get(token, this::parseToken);
+    }
+
     /**
      * Extracts the username from the given JWT token.
      *
@@ -62,6 +155,21 @@ public class JwtService {
         return generateToken(new HashMap<>(), userDetails);
     }
 
+    /**
+     * Generates a JWT token for the given user, embedding the user id, role and
+     * token version so that requests can be authenticated from the token alone.
+     *
+     * @param principal the authenticated user
+     * @return the generated JWT token
+     */
+    public String generateToken(AuthPrincipal principal) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(AuthConstants.CLAIM_USER_ID, principal.id());
+        claims.put(AuthConstants.CLAIM_ROLE, principal.role().name());
+        claims.put(AuthConstants.CLAIM_TOKEN_VERSION, principal.tokenVersion());
+        return generateToken(claims, principal);
+    }
+
     /**
      * Generates a JWT token with extra claims for the given user details.
      *
@@ -70,13 +178,20 @@ public class JwtService {
      * @return the generated JWT token
      */
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return Jwts.builder()
+        long startedAt = System.nanoTime();
+        long now = System.currentTimeMillis();
+        JwtKeyRing.SigningKey signingKey = jwtKeyRing.getActiveSigningKey();
+        String token = Jwts.builder()
                 .setClaims(extraClaims)
                 .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + jwtExpiration))
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                .signWith(signingKey.privateKey(), SignatureAlgorithm.ES256)
                 .compact();
+        signTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return token;
     }
 
     /**
@@ -87,29 +202,73 @@ public class JwtService {
      * @return true if the token is valid, false otherwise
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(verifyToken(token), userDetails);
+    }
+
+    /**
+     * Validates an already verified token for the given user details without
+     * re-parsing it.
+     *
+     * @param token       the verified token
+     * @param userDetails the user details
+     * @return true if the token belongs to the user and is not expired, false
+     *         otherwise
+     */
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return token.getSubject().equals(userDetails.getUsername()) && !token.isExpired(Instant.now());
     }
 
     // Private helper methods for internal use
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private VerifiedToken parseToken(String token) {
+        long startedAt = System.nanoTime();
+        Timer timer = invalidVerifyTimer;
+        try {
+            VerifiedToken verified = VerifiedToken.from(extractAllClaims(token));
+            timer = validVerifyTimer;
+            return verified;
+        } finally {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private Timer jwtVerifications(String result) {
+        return Timer.builder("twine.jwt.verify")
+                .description("Time spent parsing and verifying the signature of a JWT")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private void initLegacyFallback() {
+        if (!StringUtils.hasText(secretKey) || !StringUtils.hasText(legacyAcceptUntil)) {
+            throw new IllegalStateException(AuthConstants.JWT_LEGACY_ENABLED_PROPERTY + " requires "
+                    + AuthConstants.JWT_SECRET_PROPERTY + " and " + AuthConstants.JWT_LEGACY_ACCEPT_UNTIL_PROPERTY);
+        }
+        this.legacyDeadline = LocalDate.parse(legacyAcceptUntil).atStartOfDay(ZoneOffset.UTC).toInstant();
+        if (!Instant.now().isBefore(legacyDeadline)) {
+            log.warn("Legacy HS256 tokens are no longer accepted since {}; remove {} from the configuration",
+                    legacyAcceptUntil, AuthConstants.JWT_LEGACY_ENABLED_PROPERTY);
+            return;
+        }
+        this.legacySigningKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        log.warn("Accepting legacy HS256 tokens without a key id until {}", legacyAcceptUntil);
     }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    private Key resolveVerificationKey(JwsHeader<?> header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            if (legacySigningKey == null || !Instant.now().isBefore(legacyDeadline)) {
+                throw new SignatureException("JWT without a key id is not accepted");
+            }
+            return legacySigningKey;
+        }
+        Key key = jwtKeyRing.getVerificationKey(kid);
+        if (key == null) {
+            throw new SignatureException("Unknown JWT key id: " + kid);
+        }
+        return key;
+    }
+
+    private Claims extractAllClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,225 @@
+package com.twine.security;
+
+import com.twine.constants.AuthConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Builds the application's password encoder with work factors calibrated
+ * against a target hashing latency on the current hardware.
+ * <p>
+ * The encoder is a {@link DelegatingPasswordEncoder} that verifies both
+ * {@code {bcrypt}} and {@code {argon2}} hashes (and legacy unprefixed BCrypt
+ * hashes) and encodes new passwords with the configured algorithm. Because
+ * {@link PasswordEncoder#upgradeEncoding(String)} reports any hash produced
+ * with a different algorithm or weaker parameters, stored hashes are upgraded
+ * transparently on the next successful login. Work factors are only ever
+ * raised by the upgrade check, never lowered; fixed values can be configured
+ * to skip calibration.
+ * </p>
+ * <p>
+ * Calibration is kept off the startup path: the encoder starts with the
+ * configured floor work factors and is recalibrated on a background thread
+ * once the application is ready, then swapped in. The calibrated factors never
+ * drop below the floor, so a node measured under load stays at least as
+ * strong as configured, and hashes written before the swap are upgraded on the
+ * next login.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PasswordHashingCalibrator {
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+    private static final int MIN_BCRYPT_STRENGTH = 10;
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    private static final int MIN_ARGON2_ITERATIONS = 2;
+    private static final int MAX_ARGON2_ITERATIONS = 16;
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+    private static final int ARGON2_PARALLELISM = 1;
+    private static final int MEASUREMENTS = 2;
+
+    private final String algorithm;
+    private final long targetMillis;
+    private final int configuredBcryptStrength;
+    private final int argon2MemoryKib;
+    private final int configuredArgon2Iterations;
+    private final int floorBcryptStrength;
+    private final int floorArgon2Iterations;
+
+    private CalibratedPasswordEncoder calibratedEncoder;
+
+    public PasswordHashingCalibrator(
+            @Value("${" + AuthConstants.PASSWORD_HASHING_ALGORITHM_PROPERTY + ":"
+                    + AuthConstants.ARGON2_ENCODER_ID + "}") String algorithm,
+            @Value("${" + AuthConstants.PASSWORD_HASHING_TARGET_MILLIS_PROPERTY + ":250}") long targetMillis,
+            @Value("${" + AuthConstants.PASSWORD_HASHING_BCRYPT_STRENGTH_PROPERTY + ":0}") int bcryptStrength,
+            @Value("${" + AuthConstants.PASSWORD_HASHING_ARGON2_MEMORY_PROPERTY + ":19456}") int argon2MemoryKib,
+            @Value("${" + AuthConstants.PASSWORD_HASHING_ARGON2_ITERATIONS_PROPERTY + ":0}") int argon2Iterations,
+            @Value("${" + AuthConstants.PASSWORD_HASHING_BCRYPT_MIN_STRENGTH_PROPERTY + ":"
+                    + MIN_BCRYPT_STRENGTH + "}") int bcryptMinStrength,
+            @Value("${" + AuthConstants.PASSWORD_HASHING_ARGON2_MIN_ITERATIONS_PROPERTY + ":"
+                    + MIN_ARGON2_ITERATIONS + "}") int argon2MinIterations) {
+        if (!AuthConstants.BCRYPT_ENCODER_ID.equals(algorithm) && !AuthConstants.ARGON2_ENCODER_ID.equals(algorithm)) {
+            throw new IllegalArgumentException("Unsupported password hashing algorithm: " + algorithm);
+        }
+        this.algorithm = algorithm;
+        this.targetMillis = targetMillis;
+        this.configuredBcryptStrength = bcryptStrength;
+        this.argon2MemoryKib = argon2MemoryKib;
+        this.configuredArgon2Iterations = argon2Iterations;
+        this.floorBcryptStrength = Math.max(MIN_BCRYPT_STRENGTH, Math.min(MAX_BCRYPT_STRENGTH, bcryptMinStrength));
+        this.floorArgon2Iterations = Math.max(MIN_ARGON2_ITERATIONS,
+                Math.min(MAX_ARGON2_ITERATIONS, argon2MinIterations));
+    }
+
+    /**
+     * Builds the delegating password encoder. With fixed work factors it is
+     * returned as is; otherwise it starts with the floor work factors and is
+     * replaced by the calibrated one once {@link #calibrateInBackground()} has
+     * run.
+     *
+     * @return the password encoder
+     */
+    public synchronized PasswordEncoder createPasswordEncoder() {
+        if (!needsCalibration()) {
+            return buildEncoder(configuredBcryptStrength, configuredArgon2Iterations);
+        }
+        if (calibratedEncoder == null) {
+            calibratedEncoder = new CalibratedPasswordEncoder(buildEncoder(
+                    configuredBcryptStrength > 0 ? configuredBcryptStrength : floorBcryptStrength,
+                    configuredArgon2Iterations > 0 ? configuredArgon2Iterations : floorArgon2Iterations));
+        }
+        return calibratedEncoder;
+    }
+
+    /**
+     * Calibrates the work factors on a background thread once the application
+     * is ready and swaps the calibrated encoder in.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void calibrateInBackground() {
+        if (calibratedEncoder == null) {
+            return;
+        }
+        CalibratedPasswordEncoder target = calibratedEncoder;
+        Thread thread = new Thread(() -> {
+            try {
+                int bcryptStrength = configuredBcryptStrength > 0 ? configuredBcryptStrength
+                        : Math.max(floorBcryptStrength, calibrateBcryptStrength());
+                int argon2Iterations = configuredArgon2Iterations > 0 ? configuredArgon2Iterations
+                        : Math.max(floorArgon2Iterations, calibrateArgon2Iterations());
+                target.delegate = buildEncoder(bcryptStrength, argon2Iterations);
+            } catch (RuntimeException e) {
+                log.error("Password hashing calibration failed; keeping the floor work factors", e);
+            }
+        }, "password-hash-calibration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // --- Private Helper Methods ---
+
+    private boolean needsCalibration() {
+        return configuredBcryptStrength <= 0 || configuredArgon2Iterations <= 0;
+    }
+
+    private PasswordEncoder buildEncoder(int bcryptStrength, int argon2Iterations) {
+        log.info("Password hashing: encoding with {} (bcrypt strength={}, argon2id memory={}KiB iterations={}), "
+                + "target {}ms", algorithm, bcryptStrength, argon2MemoryKib, argon2Iterations, targetMillis);
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(algorithm, Map.of(
+                AuthConstants.BCRYPT_ENCODER_ID, bcrypt,
+                AuthConstants.ARGON2_ENCODER_ID, argon2(argon2Iterations)));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
+    }
+
+    /**
+     * Picks the highest BCrypt strength whose hashing time stays within the
+     * target. Each strength step doubles the work, so one measurement at the
+     * minimum strength is enough to extrapolate.
+     *
+     * @return the calibrated BCrypt strength
+     */
+    private int calibrateBcryptStrength() {
+        BCryptPasswordEncoder baseline = new BCryptPasswordEncoder(MIN_BCRYPT_STRENGTH);
+        double baselineMillis = measureMillis(() -> baseline.encode(CALIBRATION_PASSWORD));
+        int extraSteps = (int) Math.floor(Math.log(targetMillis / baselineMillis) / Math.log(2));
+        return Math.min(MAX_BCRYPT_STRENGTH, MIN_BCRYPT_STRENGTH + Math.max(0, extraSteps));
+    }
+
+    /**
+     * Picks the Argon2id iteration count whose hashing time is closest to the
+     * target at the configured memory cost. Hashing time grows linearly with
+     * the iteration count.
+     *
+     * @return the calibrated Argon2id iteration count
+     */
+    private int calibrateArgon2Iterations() {
+        Argon2PasswordEncoder baseline = argon2(MIN_ARGON2_ITERATIONS);
+        double millisPerIteration = measureMillis(() -> baseline.encode(CALIBRATION_PASSWORD))
+                / MIN_ARGON2_ITERATIONS;
+        int iterations = (int) Math.round(targetMillis / millisPerIteration);
+        return Math.max(MIN_ARGON2_ITERATIONS, Math.min(MAX_ARGON2_ITERATIONS, iterations));
+    }
+
+    private Argon2PasswordEncoder argon2(int iterations) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, ARGON2_PARALLELISM,
+                argon2MemoryKib, iterations);
+    }
+
+    /**
+     * Measures the average duration of an operation after one warm-up run.
+     *
+     * @param operation the operation to measure
+     * @return the average duration in milliseconds
+     */
+    private double measureMillis(Supplier<String> operation) {
+        operation.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASUREMENTS; i++) {
+            operation.get();
+        }
+        return Math.max(0.001, (System.nanoTime() - start) / 1_000_000.0 / MEASUREMENTS);
+    }
+
+    /**
+     * Password encoder that delegates to the current work factors, so the
+     * calibrated encoder can replace the floor one at runtime.
+     */
+    private static final class CalibratedPasswordEncoder implements PasswordEncoder {
+        private volatile PasswordEncoder delegate;
+
+        private CalibratedPasswordEncoder(PasswordEncoder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return delegate.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return delegate.upgradeEncoding(encodedPassword);
+        }
+    }
+}
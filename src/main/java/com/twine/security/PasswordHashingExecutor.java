@@ -0,0 +1,149 @@
+package com.twine.security;
+
+import com.twine.constants.AuthConstants;
+import com.twine.constants.ErrorConstants;
+import com.twine.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dedicated, bounded executor for CPU-heavy password hashing.
+ * <p>
+ * Hashing runs on a fixed pool sized to the number of cores behind a bounded
+ * queue, so a login burst can saturate at most that many cores and never pins
+ * every request thread. When the queue is full the work is rejected
+ * immediately with a {@link TooManyRequestsException} (HTTP 429 with
+ * {@code Retry-After}) instead of queueing without bound. Queue depth, queue
+ * wait time, hashing time per {@link Operation} and rejections are published
+ * as metrics.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Timer queueWaitTimer;
+    private final Map<Operation, Timer> executionTimers = new EnumMap<>(Operation.class);
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${" + AuthConstants.PASSWORD_HASHING_THREADS_PROPERTY + ":0}") int threads,
+            @Value("${" + AuthConstants.PASSWORD_HASHING_QUEUE_CAPACITY_PROPERTY + ":64}") int queueCapacity,
+            @Value("${" + AuthConstants.PASSWORD_HASHING_RETRY_AFTER_PROPERTY + ":1}") long retryAfterSeconds) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        Gauge.builder("twine.password.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("twine.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks currently running")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("twine.password.hashing.wait")
+                .description("Time password hashing tasks spend queued before running")
+                .register(meterRegistry);
+        for (Operation operation : Operation.values()) {
+            executionTimers.put(operation, Timer.builder("twine.password.hashing.duration")
+                    .description("Time spent hashing or verifying a password")
+                    .tag("operation", operation.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        this.rejectedCounter = Counter.builder("twine.password.hashing.rejected")
+                .description("Password hashing tasks rejected because the queue was full")
+                .register(meterRegistry);
+        log.info("Password hashing executor started with {} thread(s) and queue capacity {}",
+                poolSize, queueCapacity);
+    }
+
+    /**
+     * Runs a hashing task on the bounded pool and waits for its result.
+     *
+     * @param operation the kind of work, used to tag its duration
+     * @param task      the hashing task
+     * @param <T>       the result type
+     * @return the task result
+     * @throws TooManyRequestsException if the queue is full
+     */
+    public <T> T execute(Operation operation, Callable<T> task) {
+        Timer executionTimer = executionTimers.get(operation);
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException(ErrorConstants.TOO_MANY_AUTHENTICATION_REQUESTS, retryAfterSeconds);
+        }
+        return await(future);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    // --- Private Helper Methods ---
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Kind of work submitted to the executor.
+     */
+    public enum Operation {
+        /** Hashing a new password. */
+        ENCODE,
+        /** Checking a password against a stored hash. */
+        VERIFY
+    }
+}
@@ -0,0 +1,81 @@
+package com.twine.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.twine.constants.AuthConstants;
+import com.twine.repository.AuthUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded, TTL-based cache of {@link AuthPrincipal}s keyed by email, backing
+ * the application's {@code UserDetailsService}.
+ * <p>
+ * Misses load the user through {@link AuthUserRepository#findByEmail(String)};
+ * unknown emails are not cached. Entries are invalidated whenever an
+ * {@code AuthUser} is written (see
+ * {@link com.twine.entity.listener.AuthUserCacheListener}), both immediately
+ * and again after the surrounding transaction commits so that a concurrent
+ * load cannot re-cache the pre-commit state. Invalidation is node-local, so
+ * writes made on other nodes are only picked up when the entry expires; the
+ * TTL, seconds by default, bounds that window. Hit rate, size and load latency
+ * are published under the {@value AuthConstants#PRINCIPAL_CACHE_NAME} cache
+ * name.
+ * </p>
+ */
+@Component
+public class PrincipalCache {
+
+    private final AuthUserRepository authUserRepository;
+    private final Cache<String, AuthPrincipal> cache;
+
+    public PrincipalCache(
+            AuthUserRepository authUserRepository,
+            MeterRegistry meterRegistry,
+            @Value("${" + AuthConstants.PRINCIPAL_CACHE_MAXIMUM_SIZE_PROPERTY + ":10000}") long maximumSize,
+            @Value("${" + AuthConstants.PRINCIPAL_CACHE_TTL_PROPERTY + ":10000}") long ttlMillis) {
+        this.authUserRepository = authUserRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, AuthConstants.PRINCIPAL_CACHE_NAME);
+    }
+
+    /**
+     * Returns the principal for an email, loading it on a miss.
+     *
+     * @param email the user's email address
+     * @return an Optional containing the principal, or empty if no user exists
+     */
+    public Optional<AuthPrincipal> get(String email) {
+        return Optional.ofNullable(cache.get(email,
+                key -> authUserRepository.findByEmail(key).map(AuthPrincipal::from).orElse(null)));
+    }
+
+    /**
+     * Drops the cached principal for an email now and, if a transaction is
+     * active, once more after it commits.
+     *
+     * @param email the user's email address
+     */
+    public void invalidate(String email) {
+        cache.invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(email);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.twine.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A single rate limit of {@code capacity} requests per {@code period}, tracked
+ * separately for every key (client IP, email, ...).
+ * <p>
+ * Each key's bucket is one {@link AtomicLong} holding its theoretical arrival
+ * time (the generic cell rate algorithm): a request is allowed if, after
+ * adding one emission interval ({@code period / capacity}), the arrival time
+ * is at most one period ahead of now. Refill is implicit in the passage of
+ * time, so there is no refill task and an acquire is a single CAS. A bucket
+ * that has been idle for a full period is full again, so buckets expire after
+ * one idle period without losing state, and the number of tracked keys is
+ * bounded by {@code maxKeys}.
+ * </p>
+ */
+public class RateLimit {
+
+    private final int capacity;
+    private final long periodNanos;
+    private final long intervalNanos;
+    private final Cache<String, AtomicLong> buckets;
+    private final Counter allowed;
+    private final Counter rejected;
+
+    public RateLimit(String route, String key, int capacity, Duration period, long maxKeys,
+            MeterRegistry meterRegistry) {
+        if (capacity <= 0 || period == null || period.isNegative() || period.isZero()) {
+            throw new IllegalStateException("Rate limit " + route + "." + key
+                    + " needs a positive capacity and period");
+        }
+        this.capacity = capacity;
+        this.periodNanos = period.toNanos();
+        this.intervalNanos = periodNanos / capacity;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(period)
+                .build();
+        this.allowed = decisions(meterRegistry, route, key, "allowed");
+        this.rejected = decisions(meterRegistry, route, key, "rejected");
+    }
+
+    /**
+     * Takes one request from the key's bucket if it has room.
+     *
+     * @param key the bucket key
+     * @return the decision, including the bucket state to report to the client
+     */
+    public Decision tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong arrival = buckets.get(key, k -> new AtomicLong(now - periodNanos));
+        while (true) {
+            long current = arrival.get();
+            long base = current - now > 0 ? current : now;
+            long backlog = base + intervalNanos - now;
+            if (backlog > periodNanos) {
+                rejected.increment();
+                return new Decision(false, capacity, 0, base - now, backlog - periodNanos);
+            }
+            if (arrival.compareAndSet(current, base + intervalNanos)) {
+                allowed.increment();
+                return new Decision(true, capacity, (int) ((periodNanos - backlog) / intervalNanos), backlog, 0);
+            }
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private static Counter decisions(MeterRegistry meterRegistry, String route, String key, String result) {
+        return Counter.builder("twine.ratelimit.decisions")
+                .description("Requests checked against a rate limit")
+                .tag("route", route)
+                .tag("key", key)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Outcome of {@link #tryAcquire(String)}.
+     *
+     * @param allowed          whether the request may proceed
+     * @param limit            the bucket capacity
+     * @param remaining        requests left before the bucket is empty
+     * @param resetNanos       time until the bucket is full again
+     * @param retryAfterNanos  time until the next request would be allowed, 0 if allowed
+     */
+    public record Decision(boolean allowed, int limit, int remaining, long resetNanos, long retryAfterNanos) {
+    }
+}
@@ -0,0 +1,290 @@
+package com.twine.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twine.config.RateLimitProperties;
+import com.twine.constants.ErrorConstants;
+import com.twine.dto.ErrorResponse;
+import com.twine.util.EmailNormalizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate-limiting filter for the unauthenticated endpoints, run ahead of JWT
+ * authentication so rejected requests cost as little as possible.
+ * <p>
+ * The first configured route matching the request path applies (see
+ * {@link RateLimitProperties}). Its per-IP limit is checked first; if the route
+ * also has a per-email limit, the small JSON body is buffered, its
+ * {@code email} field is read and normalized, and the body is replayed to the
+ * controller unchanged. The client IP is {@link HttpServletRequest#getRemoteAddr()},
+ * so deployments behind a proxy should set {@code server.forward-headers-strategy}.
+ * </p>
+ * <p>
+ * The per-email limit fails closed: a body larger than the buffer is rejected
+ * with 413 and a body without a readable {@code email} with 400, so no request
+ * reaches the controller of such a route without being charged to an email.
+ * </p>
+ * <p>
+ * Allowed requests carry {@code RateLimit-Limit}, {@code RateLimit-Remaining}
+ * and {@code RateLimit-Reset} headers for the most constrained limit.
+ * Rate-limited requests get a 429 {@link ErrorResponse} with a
+ * {@code Retry-After} header.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String HEADER_LIMIT = "RateLimit-Limit";
+    private static final String HEADER_REMAINING = "RateLimit-Remaining";
+    private static final String HEADER_RESET = "RateLimit-Reset";
+    private static final String EMAIL_FIELD = "email";
+    private static final int MAX_BUFFERED_BODY_BYTES = 4096;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<RouteLimits> routes = new ArrayList<>();
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.enabled = properties.isEnabled();
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        properties.getRoutes().forEach((name, route) -> routes.add(new RouteLimits(
+                parser.parse(route.getPath()),
+                toRateLimit(name, "ip", route.getIp(), properties.getMaxKeys(), meterRegistry),
+                toRateLimit(name, "email", route.getEmail(), properties.getMaxKeys(), meterRegistry))));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || routes.isEmpty();
+    }
+
+    /**
+     * Checks the request against the limits of its route and either forwards it
+     * or rejects it with 429, or with 413 or 400 if its email cannot be read.
+     *
+     * @param request     the HTTP servlet request
+     * @param response    the HTTP servlet response
+     * @param filterChain the filter chain
+     * @throws ServletException if a servlet error occurs
+     * @throws IOException      if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RouteLimits route = findRoute(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimit.Decision decision = null;
+        if (route.ip() != null) {
+            decision = route.ip().tryAcquire(request.getRemoteAddr());
+            if (!decision.allowed()) {
+                reject(request, response, decision);
+                return;
+            }
+        }
+
+        HttpServletRequest forwarded = request;
+        if (route.email() != null) {
+            if (request.getContentLengthLong() > MAX_BUFFERED_BODY_BYTES) {
+                writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, ErrorConstants.REQUEST_BODY_TOO_LARGE);
+                return;
+            }
+            byte[] body = request.getInputStream().readNBytes(MAX_BUFFERED_BODY_BYTES + 1);
+            if (body.length > MAX_BUFFERED_BODY_BYTES) {
+                writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, ErrorConstants.REQUEST_BODY_TOO_LARGE);
+                return;
+            }
+            String email = readEmail(body);
+            if (email == null) {
+                writeError(request, response, HttpStatus.BAD_REQUEST, ErrorConstants.EMAIL_REQUIRED);
+                return;
+            }
+            RateLimit.Decision emailDecision = route.email().tryAcquire(email);
+            if (!emailDecision.allowed()) {
+                reject(request, response, emailDecision);
+                return;
+            }
+            if (decision == null || emailDecision.remaining() < decision.remaining()) {
+                decision = emailDecision;
+            }
+            forwarded = new BufferedBodyRequest(request, body);
+        }
+
+        if (decision != null) {
+            writeRateLimitHeaders(response, decision);
+        }
+        filterChain.doFilter(forwarded, response);
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Finds the first route matching the request path within the context path.
+     *
+     * @param request the HTTP servlet request
+     * @return the route limits, or null if no route matches
+     */
+    private RouteLimits findRoute(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length()));
+        for (RouteLimits route : routes) {
+            if (route.pattern().matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the top-level {@code email} field of a JSON body.
+     *
+     * @param body the request body
+     * @return the normalized email, or null if the body has none or is not JSON
+     */
+    private String readEmail(byte[] body) {
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            JsonNode email = root != null ? root.get(EMAIL_FIELD) : null;
+            return email != null && email.isTextual() && !email.textValue().isBlank()
+                    ? EmailNormalizer.normalize(email.textValue()) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RateLimit.Decision decision)
+            throws IOException {
+        log.debug("Rate limit exceeded for {} from {}", request.getRequestURI(), request.getRemoteAddr());
+        writeRateLimitHeaders(response, decision);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(decision.retryAfterNanos())));
+        writeError(request, response, HttpStatus.TOO_MANY_REQUESTS, ErrorConstants.TOO_MANY_REQUESTS);
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+            String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(request.getRequestURI())
+                .build());
+    }
+
+    private void writeRateLimitHeaders(HttpServletResponse response, RateLimit.Decision decision) {
+        response.setHeader(HEADER_LIMIT, String.valueOf(decision.limit()));
+        response.setHeader(HEADER_REMAINING, String.valueOf(decision.remaining()));
+        response.setHeader(HEADER_RESET, String.valueOf(toSeconds(decision.resetNanos())));
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private static RateLimit toRateLimit(String route, String key, RateLimitProperties.Limit limit, long maxKeys,
+            MeterRegistry meterRegistry) {
+        return limit == null ? null
+                : new RateLimit(route, key, limit.getCapacity(), limit.getPeriod(), maxKeys, meterRegistry);
+    }
+
+    private record RouteLimits(PathPattern pattern, RateLimit ip, RateLimit email) {
+    }
+
+    /**
+     * Request whose body starts with bytes already read by the filter and
+     * continues with whatever is left in the original stream.
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] head;
+        private ServletInputStream inputStream;
+
+        private BufferedBodyRequest(HttpServletRequest request, byte[] head) {
+            super(request);
+            this.head = head;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                ServletInputStream rest = super.getInputStream();
+                ByteArrayInputStream buffered = new ByteArrayInputStream(head);
+                inputStream = new ServletInputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        int b = buffered.read();
+                        return b != -1 ? b : rest.read();
+                    }
+
+                    @Override
+                    public int read(byte[] b, int off, int len) throws IOException {
+                        if (len == 0) {
+                            return 0;
+                        }
+                        int n = buffered.read(b, off, len);
+                        return n != -1 ? n : rest.read(b, off, len);
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        return buffered.available() == 0 && rest.isFinished();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return buffered.available() > 0 || rest.isReady();
+                    }
+
+                    @Override
+                    public void setReadListener(ReadListener readListener) {
+                        rest.setReadListener(readListener);
+                    }
+                };
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
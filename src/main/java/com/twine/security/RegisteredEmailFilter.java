@@ -0,0 +1,170 @@
+package com.twine.security;
+
+import com.twine.constants.AuthConstants;
+import com.twine.repository.AuthUserRepository;
+import com.twine.util.EmailNormalizer;
+import com.twine.util.ScalableBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Membership filter of registered email addresses used to answer "is this
+ * email taken?" without touching the database in the common negative case.
+ * <p>
+ * A {@link ScalableBloomFilter} over normalized emails is warmed from
+ * {@code auth_users} at startup, updated on every insert on this node and
+ * refreshed incrementally from rows inserted on other nodes. Only filter
+ * positives fall through to an exact probe of the unique
+ * {@code email_normalized} index. Until the warm-up has finished every lookup
+ * goes to the database. A stale negative can at worst let a registration
+ * reach the unique index, which rejects it.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+
+    /**
+     * Ids are assigned before commit, so rows can become visible out of id
+     * order; each sync re-reads this many ids below the highest one seen.
+     */
+    private static final long SYNC_OVERLAP_IDS = 1000;
+
+    private final AuthUserRepository authUserRepository;
+    private final ScalableBloomFilter bloomFilter;
+    private final Counter negativeLookups;
+    private final Counter registeredLookups;
+    private final Counter falsePositiveLookups;
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private volatile boolean warmedUp;
+    private volatile long highestSeenId;
+
+    public RegisteredEmailFilter(
+            AuthUserRepository authUserRepository,
+            MeterRegistry meterRegistry,
+            @Value("${" + AuthConstants.EMAIL_FILTER_EXPECTED_INSERTIONS_PROPERTY + ":100000}") long expectedInsertions,
+            @Value("${" + AuthConstants.EMAIL_FILTER_FALSE_POSITIVE_RATE_PROPERTY + ":0.01}") double falsePositiveRate) {
+        this.authUserRepository = authUserRepository;
+        this.bloomFilter = ScalableBloomFilter.create(expectedInsertions, falsePositiveRate);
+        this.negativeLookups = emailLookups(meterRegistry, "negative");
+        this.registeredLookups = emailLookups(meterRegistry, "registered");
+        this.falsePositiveLookups = emailLookups(meterRegistry, "false_positive");
+        Gauge.builder("twine.registration.email.bloom.false.positive.rate", bloomFilter,
+                        ScalableBloomFilter::expectedFalsePositiveRate)
+                .description("Estimated false-positive probability of the registered-email Bloom filter")
+                .register(meterRegistry);
+        Gauge.builder("twine.registration.email.bloom.size", bloomFilter, ScalableBloomFilter::size)
+                .description("Number of emails in the registered-email Bloom filter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks whether an email address is already registered, ignoring case.
+     *
+     * @param email the email address as entered
+     * @return true if a user with the normalized email exists
+     */
+    public boolean isRegistered(String email) {
+        String normalized = EmailNormalizer.normalize(email);
+        if (warmedUp && !bloomFilter.mightContain(normalized)) {
+            negativeLookups.increment();
+            return false;
+        }
+        if (authUserRepository.existsByEmailNormalized(normalized)) {
+            registeredLookups.increment();
+            return true;
+        }
+        falsePositiveLookups.increment();
+        return false;
+    }
+
+    /**
+     * Adds a normalized email address to the filter.
+     *
+     * @param emailNormalized the normalized email address
+     */
+    public void register(String emailNormalized) {
+        if (emailNormalized != null) {
+            bloomFilter.put(emailNormalized);
+        }
+    }
+
+    /**
+     * Backfills normalized emails of pre-existing users and loads every
+     * registered email into the filter.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            int backfilled = authUserRepository.backfillNormalizedEmails();
+            if (backfilled > 0) {
+                log.info("Backfilled normalized email for {} user(s)", backfilled);
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Could not backfill normalized emails; users exist whose emails differ only by case", e);
+        }
+        int loaded = sync();
+        warmedUp = true;
+        log.info("Registered-email Bloom filter warmed up with {} email(s) in {} slice(s)",
+                loaded, bloomFilter.sliceCount());
+    }
+
+    /**
+     * Adds emails of users inserted since the last sync, including those
+     * registered on other nodes, to the filter. Serialized with a lock rather
+     * than {@code synchronized} so the JDBC reads do not pin a virtual thread's
+     * carrier.
+     *
+     * @return the number of emails read
+     */
+    @Scheduled(fixedDelayString = "${" + AuthConstants.EMAIL_FILTER_SYNC_INTERVAL_PROPERTY + ":30000}",
+            initialDelayString = "${" + AuthConstants.EMAIL_FILTER_SYNC_INTERVAL_PROPERTY + ":30000}")
+    public int sync() {
+        syncLock.lock();
+        try {
+            return syncLocked();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private int syncLocked() {
+        long afterId = Math.max(0, highestSeenId - SYNC_OVERLAP_IDS);
+        int loaded = 0;
+        List<Object[]> rows;
+        do {
+            rows = authUserRepository.findNormalizedEmailsAfter(afterId,
+                    PageRequest.ofSize(AuthConstants.EMAIL_FILTER_BATCH_SIZE));
+            for (Object[] row : rows) {
+                afterId = (Long) row[0];
+                register((String) row[1]);
+            }
+            loaded += rows.size();
+        } while (rows.size() == AuthConstants.EMAIL_FILTER_BATCH_SIZE);
+        highestSeenId = Math.max(highestSeenId, afterId);
+        return loaded;
+    }
+
+    private static Counter emailLookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("twine.registration.email.lookups")
+                .description("Registered-email checks by outcome; false_positive means the Bloom filter "
+                        + "matched but the email was not registered")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,170 @@
+package com.twine.security;
+
+import com.twine.constants.AuthConstants;
+import com.twine.entity.RevokedToken;
+import com.twine.repository.RevokedTokenRepository;
+import com.twine.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Denylist of access tokens revoked before their natural expiry.
+ * <p>
+ * Revoked token ids ({@code jti}) are stored in {@code revoked_tokens} until the
+ * token would have expired. An in-memory {@link BloomFilter} answers the
+ * common "not revoked" case without I/O; only Bloom positives fall through to
+ * an exact primary-key lookup. The filter is updated incrementally from rows
+ * revoked on any node and rebuilt periodically, after expired rows have been
+ * purged, so it never fills up.
+ * </p>
+ * <p>
+ * Each sync re-reads revocations from
+ * {@value AuthConstants#JWT_REVOCATION_SYNC_OVERLAP_PROPERTY} milliseconds
+ * (by default one sync interval) before the previous sync, so rows committed
+ * late or stamped by a node with a lagging clock are not missed. Token ids
+ * already added by the previous sync are skipped.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration syncOverlap;
+    private final Counter negativeLookups;
+    private final Counter revokedLookups;
+    private final Counter falsePositiveLookups;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile LocalDateTime lastSync = LocalDateTime.now();
+    private volatile Set<String> lastSyncedJtis = Set.of();
+
+    public TokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${" + AuthConstants.JWT_REVOCATION_EXPECTED_INSERTIONS_PROPERTY + ":100000}") long expectedInsertions,
+            @Value("${" + AuthConstants.JWT_REVOCATION_FALSE_POSITIVE_RATE_PROPERTY + ":0.01}") double falsePositiveRate,
+            @Value("${" + AuthConstants.JWT_REVOCATION_SYNC_OVERLAP_PROPERTY + ":${"
+                    + AuthConstants.JWT_REVOCATION_SYNC_INTERVAL_PROPERTY + ":10000}}") long syncOverlapMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncOverlap = Duration.ofMillis(syncOverlapMillis);
+        this.bloomFilter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        this.negativeLookups = revocationLookups(meterRegistry, "negative");
+        this.revokedLookups = revocationLookups(meterRegistry, "revoked");
+        this.falsePositiveLookups = revocationLookups(meterRegistry, "false_positive");
+        Gauge.builder("twine.jwt.revocation.bloom.false.positive.rate", this,
+                        service -> service.bloomFilter.expectedFalsePositiveRate())
+                .description("Estimated false-positive probability of the revocation Bloom filter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Revokes an access token until its natural expiry.
+     *
+     * @param jti       the token id
+     * @param expiresAt the token's expiry
+     */
+    @Transactional
+    public void revoke(String jti, Instant expiresAt) {
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .expiresAt(LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+                .revokedAt(LocalDateTime.now())
+                .build());
+        bloomFilter.put(jti);
+        log.info("Access token {} revoked", jti);
+    }
+
+    /**
+     * Checks whether an access token has been revoked.
+     *
+     * @param jti the token id
+     * @return true if the token is revoked
+     */
+    public boolean isRevoked(String jti) {
+        if (!bloomFilter.mightContain(jti)) {
+            negativeLookups.increment();
+            return false;
+        }
+        if (revokedTokenRepository.existsById(jti)) {
+            revokedLookups.increment();
+            return true;
+        }
+        falsePositiveLookups.increment();
+        return false;
+    }
+
+    /**
+     * Adds tokens revoked since the last sync, including those revoked on other
+     * nodes, to the Bloom filter, skipping those the previous sync added.
+     */
+    @Scheduled(fixedDelayString = "${" + AuthConstants.JWT_REVOCATION_SYNC_INTERVAL_PROPERTY + ":10000}",
+            initialDelayString = "${" + AuthConstants.JWT_REVOCATION_SYNC_INTERVAL_PROPERTY + ":10000}")
+    @Transactional(readOnly = true)
+    public void sync() {
+        LocalDateTime syncStart = LocalDateTime.now();
+        List<String> jtis = revokedTokenRepository.findJtisRevokedSince(lastSync.minus(syncOverlap));
+        BloomFilter filter = bloomFilter;
+        Set<String> previouslySynced = lastSyncedJtis;
+        for (String jti : jtis) {
+            if (!previouslySynced.contains(jti)) {
+                filter.put(jti);
+            }
+        }
+        lastSyncedJtis = Set.copyOf(jtis);
+        lastSync = syncStart;
+    }
+
+    /**
+     * Purges expired revocations and rebuilds the Bloom filter from the remaining
+     * ones, sized for at least twice the current number of entries.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${" + AuthConstants.JWT_REVOCATION_REBUILD_INTERVAL_PROPERTY + ":3600000}",
+            initialDelayString = "${" + AuthConstants.JWT_REVOCATION_REBUILD_INTERVAL_PROPERTY + ":3600000}")
+    @Transactional
+    public void rebuild() {
+        LocalDateTime rebuildStart = LocalDateTime.now();
+        int purged = revokedTokenRepository.deleteExpired(rebuildStart);
+        List<String> activeJtis = revokedTokenRepository.findActiveJtis(rebuildStart);
+
+        BloomFilter rebuilt = BloomFilter.create(Math.max(expectedInsertions, 2L * activeJtis.size()),
+                falsePositiveRate);
+        activeJtis.forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        lastSyncedJtis = Set.of();
+        lastSync = rebuildStart;
+        sync();
+        log.info("Revocation Bloom filter rebuilt with {} active revocation(s); purged {} expired",
+                activeJtis.size(), purged);
+    }
+
+    // --- Private Helper Methods ---
+
+    private static Counter revocationLookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("twine.jwt.revocation.lookups")
+                .description("Revocation checks by outcome; false_positive means the Bloom filter "
+                        + "matched but the token was not revoked")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,74 @@
+package com.twine.security;
+
+import com.twine.constants.AuthConstants;
+import com.twine.entity.AuthUser;
+import com.twine.repository.AuthUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of per-user token versions used to reject JWTs issued before
+ * a user's tokens were invalidated.
+ * <p>
+ * Only users whose version has ever been bumped are tracked, so the map stays
+ * small and the common case is a single hash lookup with no database access.
+ * The view is refreshed periodically so that bumps made on other nodes are
+ * picked up within the refresh interval.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenVersionRegistry {
+
+    private final AuthUserRepository authUserRepository;
+    private final Map<Long, Integer> currentVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Checks whether a token version is still current for the given user.
+     *
+     * @param userId       the user id carried by the token
+     * @param tokenVersion the token version carried by the token
+     * @return true if the token was issued at or after the user's current version
+     */
+    public boolean isCurrent(long userId, int tokenVersion) {
+        return tokenVersion >= currentVersions.getOrDefault(userId, 0);
+    }
+
+    /**
+     * Invalidates every token issued to the user so far by incrementing and
+     * persisting the user's token version.
+     *
+     * @param authUser the user whose tokens should be invalidated
+     * @return the saved user with its new token version
+     */
+    @Transactional
+    public AuthUser invalidateTokens(AuthUser authUser) {
+        authUser.setTokenVersion(authUser.getTokenVersion() + 1);
+        AuthUser saved = authUserRepository.save(authUser);
+        currentVersions.merge(saved.getId(), saved.getTokenVersion(), Math::max);
+        log.info("Token version bumped to {} for user id: {}", saved.getTokenVersion(), saved.getId());
+        return saved;
+    }
+
+    /**
+     * Reloads the token versions of all users whose tokens were invalidated.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${" + AuthConstants.JWT_TOKEN_VERSION_REFRESH_PROPERTY + ":30000}",
+            initialDelayString = "${" + AuthConstants.JWT_TOKEN_VERSION_REFRESH_PROPERTY + ":30000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        for (Object[] row : authUserRepository.findBumpedTokenVersions()) {
+            currentVersions.merge((Long) row[0], (Integer) row[1], Math::max);
+        }
+    }
+}
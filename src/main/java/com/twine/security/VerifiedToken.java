@@ -0,0 +1,116 @@
+package com.twine.security;
+
+import com.twine.constants.AuthConstants;
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable view of a JWT whose signature and expiry have already been
+ * verified.
+ * <p>
+ * Produced once per token by {@link JwtService#verifyToken(String)} so callers
+ * can read the subject, expiry and claims without re-parsing the token. It is
+ * also used as the authenticated principal for JWT-authenticated requests.
+ * </p>
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VerifiedToken implements AuthenticatedPrincipal {
+    private final String subject;
+    private final Instant expiresAt;
+    private final Map<String, Object> claims;
+
+    /**
+     * Creates a verified token snapshot from parsed claims.
+     *
+     * @param claims the verified JWT claims
+     * @return the immutable verified token
+     */
+    static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.getExpiration().toInstant(),
+                Collections.unmodifiableMap(new HashMap<>(claims)));
+    }
+
+    /**
+     * Returns a single claim converted to the requested type.
+     *
+     * @param name the claim name
+     * @param type the expected claim type
+     * @param <T>  the claim type
+     * @return the claim value, or null if absent
+     */
+    public <T> T getClaim(String name, Class<T> type) {
+        Object value = claims.get(name);
+        return value == null ? null : type.cast(value);
+    }
+
+    /**
+     * Returns the unique id of the token.
+     *
+     * @return the {@code jti} claim, or null if the token carries none
+     */
+    public String getJti() {
+        return getClaim(Claims.ID, String.class);
+    }
+
+    /**
+     * Returns the id of the user the token was issued to.
+     *
+     * @return the user id, or null if the token carries none
+     */
+    public Long getUserId() {
+        Number userId = getClaim(AuthConstants.CLAIM_USER_ID, Number.class);
+        return userId == null ? null : userId.longValue();
+    }
+
+    /**
+     * Returns the role the user held when the token was issued.
+     *
+     * @return the role name, or null if the token carries none
+     */
+    public String getRole() {
+        return getClaim(AuthConstants.CLAIM_ROLE, String.class);
+    }
+
+    /**
+     * Returns the user's token version at the time the token was issued.
+     *
+     * @return the token version, or null if the token carries none
+     */
+    public Integer getTokenVersion() {
+        Number version = getClaim(AuthConstants.CLAIM_TOKEN_VERSION, Number.class);
+        return version == null ? null : version.intValue();
+    }
+
+    /**
+     * Returns the token subject (the user's email) as the principal name.
+     *
+     * @return the token subject
+     */
+    @Override
+    public String getName() {
+        return subject;
+    }
+
+    /**
+     * Checks whether the token has expired relative to the given instant.
+     *
+     * @param now the reference instant
+     * @return true if the token is expired, false otherwise
+     */
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
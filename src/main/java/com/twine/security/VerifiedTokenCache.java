@@ -0,0 +1,132 @@
+package com.twine.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.twine.constants.AuthConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of already verified JWTs.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the raw token so the cache never
+ * retains bearer credentials, and each entry expires after the configured TTL
+ * or at the token's own {@code exp}, whichever comes first. Hit, miss and
+ * eviction counts are recorded and published under the
+ * {@value AuthConstants#JWT_CACHE_NAME} cache name. When disabled, every
+ * lookup falls through to the verifier.
+ * </p>
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final MessageDigest digestPrototype;
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            @Value("${" + AuthConstants.JWT_CACHE_ENABLED_PROPERTY + ":true}") boolean enabled,
+            @Value("${" + AuthConstants.JWT_CACHE_MAXIMUM_SIZE_PROPERTY + ":10000}") long maximumSize,
+            @Value("${" + AuthConstants.JWT_CACHE_TTL_PROPERTY + ":300000}") long ttlMillis,
+            MeterRegistry meterRegistry) throws NoSuchAlgorithmException {
+        this.enabled = enabled;
+        this.digestPrototype = MessageDigest.getInstance("SHA-256");
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(Duration.ofMillis(ttlMillis).toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, AuthConstants.JWT_CACHE_NAME);
+        log.info("Verified token cache {} (maximumSize={}, ttl={}ms)",
+                enabled ? "enabled" : "disabled", maximumSize, ttlMillis);
+    }
+
+    /**
+     * Returns the cached verification result for the token, verifying and caching
+     * it on a miss.
+     *
+     * @param token    the raw JWT
+     * @param verifier the function that parses and verifies the token
+     * @return the verified token
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+        return cache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counters.
+     *
+     * @return the cache statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Checks whether lookups go through the cache.
+     *
+     * @return true if the cache is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Computes the cache key for a raw token.
+     *
+     * @param token the raw JWT
+     * @return the SHA-256 digest of the token
+     */
+    private ByteBuffer digest(String token) {
+        try {
+            MessageDigest digest = (MessageDigest) digestPrototype.clone();
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("SHA-256 digest is not cloneable", e);
+        }
+    }
+
+    /**
+     * Expires each entry after the configured TTL, capped at the token's own
+     * expiry.
+     */
+    private record TokenExpiry(long ttlNanos) implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken token, long currentTime) {
+            long untilExpiry = Duration.between(Instant.now(), token.getExpiresAt()).toNanos();
+            return Math.max(0, Math.min(ttlNanos, untilExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken token, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken token, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
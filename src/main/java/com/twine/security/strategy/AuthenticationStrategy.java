@@ -1,7 +1,7 @@
 package com.twine.security.strategy;
 
 import com.twine.dto.AuthenticationRequest;
-import com.twine.dto.AuthenticationResponse;
+import com.twine.security.AuthPrincipal;
 
 /**
  * Strategy interface for different authentication mechanisms.
@@ -11,9 +11,9 @@ public interface AuthenticationStrategy {
      * Authenticates a user based on the provided request.
      *
      * @param request the authentication request
-     * @return the authentication response
+     * @return the authenticated user, as loaded by the authentication provider
      */
-    AuthenticationResponse authenticate(AuthenticationRequest request);
+    AuthPrincipal authenticate(AuthenticationRequest request);
 
     /**
      * Checks if this strategy supports the given authentication request.
@@ -22,4 +22,4 @@ public interface AuthenticationStrategy {
      * @return true if supported, false otherwise
      */
     boolean supports(AuthenticationRequest request);
-}
\ No newline at end of file
+}
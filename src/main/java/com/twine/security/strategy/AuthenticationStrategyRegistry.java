@@ -0,0 +1,74 @@
+package com.twine.security.strategy;
+
+import com.twine.constants.ErrorConstants;
+import com.twine.dto.AuthenticationRequest;
+import com.twine.exception.AuthenticationException;
+import com.twine.security.AuthPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of all {@link AuthenticationStrategy} beans that routes each login
+ * request to the first strategy that supports it.
+ * <p>
+ * Every attempt is timed per strategy and outcome under
+ * {@code twine.auth.strategy}.
+ * </p>
+ */
+@Component
+public class AuthenticationStrategyRegistry {
+
+    private final List<RegisteredStrategy> strategies;
+
+    public AuthenticationStrategyRegistry(List<AuthenticationStrategy> strategies, MeterRegistry meterRegistry) {
+        this.strategies = strategies.stream()
+                .map(strategy -> new RegisteredStrategy(strategy,
+                        strategyTimer(meterRegistry, strategy, "success"),
+                        strategyTimer(meterRegistry, strategy, "failure")))
+                .toList();
+    }
+
+    /**
+     * Authenticates the request with the first strategy that supports it.
+     *
+     * @param request the authentication request
+     * @return the authenticated user
+     * @throws AuthenticationException if no strategy supports the request or
+     *                                 authentication fails
+     */
+    public AuthPrincipal authenticate(AuthenticationRequest request) {
+        RegisteredStrategy registered = strategies.stream()
+                .filter(candidate -> candidate.strategy().supports(request))
+                .findFirst()
+                .orElseThrow(() -> new AuthenticationException(ErrorConstants.UNSUPPORTED_AUTHENTICATION_METHOD));
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            AuthPrincipal principal = registered.strategy().authenticate(request);
+            success = true;
+            return principal;
+        } finally {
+            (success ? registered.successTimer() : registered.failureTimer())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private static Timer strategyTimer(MeterRegistry meterRegistry, AuthenticationStrategy strategy,
+            String outcome) {
+        return Timer.builder("twine.auth.strategy")
+                .description("Time spent authenticating a login request, by strategy and outcome")
+                .tag("strategy", strategy.getClass().getSimpleName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record RegisteredStrategy(AuthenticationStrategy strategy, Timer successTimer, Timer failureTimer) {
+    }
+}
@@ -1,15 +1,14 @@
 package com.twine.security.strategy;
 
+import com.twine.constants.ErrorConstants;
 import com.twine.dto.AuthenticationRequest;
-import com.twine.dto.AuthenticationResponse;
-import com.twine.entity.AuthUser;
 import com.twine.exception.AuthenticationException;
-import com.twine.exception.ResourceNotFoundException;
-import com.twine.repository.AuthUserRepository;
-import com.twine.security.JwtService;
+import com.twine.exception.TooManyRequestsException;
+import com.twine.security.AuthPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 /**
@@ -17,41 +16,38 @@ import org.springframework.stereotype.Component;
  * Implements the AuthenticationStrategy interface to provide authentication
  * logic
  * and support checks for email/password requests.
+ * <p>
+ * The user loaded by the authentication provider to check the password is
+ * returned as is, so a login reads the user exactly once.
+ * </p>
  */
 @Component
 @RequiredArgsConstructor
 public class EmailPasswordAuthenticationStrategy implements AuthenticationStrategy {
 
     private final AuthenticationManager authenticationManager;
-    private final AuthUserRepository authUserRepository;
-    private final JwtService jwtService;
 
     /**
      * Authenticates a user using email and password credentials.
      *
      * @param request the authentication request containing email and password
-     * @return the authentication response with a JWT token if successful
+     * @return the authenticated user
      * @throws AuthenticationException if authentication fails
      */
     @Override
-    public AuthenticationResponse authenticate(AuthenticationRequest request) {
+    public AuthPrincipal authenticate(AuthenticationRequest request) {
+        Authentication authentication;
         try {
-            authenticationManager.authenticate(
+            authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             request.getEmail(),
                             request.getPassword()));
+        } catch (TooManyRequestsException e) {
+            throw e;
         } catch (Exception e) {
-            throw new AuthenticationException("Invalid email or password");
+            throw new AuthenticationException(ErrorConstants.INVALID_EMAIL_PASSWORD);
         }
-
-        AuthUser authUser = authUserRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        String jwtToken = jwtService.generateToken(authUser);
-
-        return AuthenticationResponse.builder()
-                .token(jwtToken)
-                .build();
+        return (AuthPrincipal) authentication.getPrincipal();
     }
 
     /**
@@ -65,4 +61,4 @@ public class EmailPasswordAuthenticationStrategy implements AuthenticationStrate
     public boolean supports(AuthenticationRequest request) {
         return request.getEmail() != null && request.getPassword() != null;
     }
-}
\ No newline at end of file
+}
@@ -3,7 +3,11 @@ package com.twine.service;
 import com.twine.dto.AuthenticationRequest;
 import com.twine.dto.AuthenticationResponse;
 import com.twine.dto.InitiateRegistrationRequest;
+import com.twine.dto.InitiateRegistrationResponse;
+import com.twine.dto.LogoutRequest;
+import com.twine.dto.RefreshTokenRequest;
 import com.twine.dto.RegisterRequest;
+import com.twine.security.VerifiedToken;
 
 /**
  * Service interface for user authentication and registration operations.
@@ -13,8 +17,9 @@ public interface IAuthenticationService {
      * Initiates the registration process for a new user.
      *
      * @param request the registration initiation request
+     * @return whether a new OTP was sent and when another may be requested
      */
-    void initiateRegistration(InitiateRegistrationRequest request);
+    InitiateRegistrationResponse initiateRegistration(InitiateRegistrationRequest request);
 
     /**
      * Completes the registration process for a new user.
@@ -31,4 +36,28 @@ public interface IAuthenticationService {
      * @return the authentication response after successful authentication
      */
     AuthenticationResponse authenticate(AuthenticationRequest request);
+
+    /**
+     * Exchanges a refresh token for a new access token and refresh token.
+     *
+     * @param request the refresh token request
+     * @return the authentication response with the new token pair
+     */
+    AuthenticationResponse refresh(RefreshTokenRequest request);
+
+    /**
+     * Revokes the current access token and, if given, the refresh token of the
+     * session.
+     *
+     * @param token   the verified access token of the current request
+     * @param request the logout request
+     */
+    void logout(VerifiedToken token, LogoutRequest request);
+
+    /**
+     * Revokes every access and refresh token issued to the user.
+     *
+     * @param token the verified access token of the current request
+     */
+    void logoutAll(VerifiedToken token);
 }
\ No newline at end of file
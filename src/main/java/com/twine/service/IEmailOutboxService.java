@@ -0,0 +1,30 @@
+package com.twine.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for the OTP email outbox. The implementation follows the
+ * {@value com.twine.constants.OtpConstants#OTP_STORE_PROPERTY} property, so
+ * emails are queued in the database only when OTPs are stored there.
+ */
+public interface IEmailOutboxService {
+    /**
+     * Queues an OTP email. The database outbox joins the caller's transaction,
+     * so nothing is sent until it commits and a dispatcher claims the message;
+     * the in-memory outbox accepts the message at once.
+     *
+     * @param recipientEmail the recipient's email address
+     * @param otpValue       the OTP code to send
+     * @param expiresAt      the OTP expiry, after which delivery is abandoned
+     * @throws com.twine.exception.TooManyRequestsException if the in-memory
+     *                                                      outbox is full
+     */
+    void enqueueOtpEmail(String recipientEmail, String otpValue, LocalDateTime expiresAt);
+
+    /**
+     * Claims due messages and delivers them, scheduling retries for failures.
+     *
+     * @return the number of messages claimed
+     */
+    int dispatch();
+}
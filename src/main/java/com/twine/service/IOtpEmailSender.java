@@ -0,0 +1,40 @@
+package com.twine.service;
+
+import jakarta.mail.MessagingException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delivers OTP emails to recipients.
+ */
+public interface IOtpEmailSender {
+    /**
+     * Renders and sends an OTP email, blocking until the mail server accepted
+     * or rejected it.
+     *
+     * @param recipientEmail the recipient's email address
+     * @param otpValue       the OTP code to send
+     * @throws MessagingException if the message cannot be built or sent
+     */
+    void sendOtpEmail(String recipientEmail, String otpValue) throws MessagingException;
+
+    /**
+     * Renders and sends several OTP emails in one call, over as few mail server
+     * connections as possible.
+     *
+     * @param emails the emails to send
+     * @return the failure of every email that was not sent, keyed by the given
+     *         instances; empty if all were sent
+     */
+    Map<OtpEmail, Exception> sendOtpEmails(List<OtpEmail> emails);
+
+    /**
+     * An OTP email to send.
+     *
+     * @param recipientEmail the recipient's email address
+     * @param otpValue       the OTP code to send
+     */
+    record OtpEmail(String recipientEmail, String otpValue) {
+    }
+}
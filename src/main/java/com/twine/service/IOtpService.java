@@ -1,16 +1,20 @@
 package com.twine.service;
 
+import java.time.LocalDateTime;
+
 /**
  * Service interface for handling OTP (One-Time Password) operations such as
  * generation, delivery, and validation.
  */
 public interface IOtpService {
     /**
-     * Generates an OTP for the recipient and sends it (e.g., via email).
+     * Generates an OTP for the recipient and sends it (e.g., via email), unless
+     * a code sent within the resend window is still valid.
      *
      * @param recipient the recipient's identifier (e.g., email address)
+     * @return whether a new code was sent and when the next one may be sent
      */
-    void generateAndSendOtp(String recipient);
+    OtpIssue generateAndSendOtp(String recipient);
 
     /**
      * Validates the provided OTP for the recipient.
@@ -19,4 +23,13 @@ public interface IOtpService {
      * @param otpCode   the OTP code to validate
      */
     void validateOtp(String recipient, String otpCode);
+
+    /**
+     * Outcome of an OTP initiation.
+     *
+     * @param sent               true if a new code was sent, false if the active code was re-used
+     * @param resendAvailableAt  the earliest time another code will be sent
+     */
+    record OtpIssue(boolean sent, LocalDateTime resendAvailableAt) {
+    }
 }
\ No newline at end of file
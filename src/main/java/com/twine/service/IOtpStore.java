@@ -0,0 +1,56 @@
+package com.twine.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Storage backend for issued OTP codes, selected with the
+ * {@value com.twine.constants.OtpConstants#OTP_STORE_PROPERTY} property.
+ */
+public interface IOtpStore {
+    /**
+     * Stores a newly issued OTP for the recipient.
+     *
+     * @param recipient the recipient's identifier (e.g., email address)
+     * @param otpCode   the OTP code
+     * @param expiresAt when the OTP expires
+     */
+    void store(String recipient, String otpCode, LocalDateTime expiresAt);
+
+    /**
+     * Returns when the recipient's latest OTP was issued, provided it is still
+     * unused and unexpired.
+     *
+     * @param recipient the recipient's identifier (e.g., email address)
+     * @return the issue time of the active OTP, or empty if there is none
+     */
+    Optional<LocalDateTime> findActiveIssuedAt(String recipient);
+
+    /**
+     * Atomically checks the OTP for the recipient and, if it matches and has
+     * not expired, consumes it so it cannot be used again. A wrong code counts
+     * as a failed attempt; once the configured number of attempts is reached
+     * the OTP is invalidated.
+     *
+     * @param recipient the recipient's identifier (e.g., email address)
+     * @param otpCode   the OTP code presented by the user
+     * @return the outcome of the check
+     */
+    Verification consume(String recipient, String otpCode);
+
+    /**
+     * Outcome of an OTP check.
+     */
+    enum Verification {
+        /** The code matched and has been consumed. */
+        CONSUMED,
+        /** No unused OTP exists for the recipient. */
+        NOT_FOUND,
+        /** The latest OTP has expired. */
+        EXPIRED,
+        /** The code does not match the latest OTP. */
+        MISMATCH,
+        /** The code does not match and the OTP has been invalidated after too many attempts. */
+        ATTEMPTS_EXHAUSTED
+    }
+}
@@ -0,0 +1,50 @@
+package com.twine.service;
+
+import com.twine.security.AuthPrincipal;
+
+/**
+ * Service interface for issuing and rotating opaque refresh tokens.
+ */
+public interface IRefreshTokenService {
+    /**
+     * Issues a refresh token that starts a new token family for the user.
+     *
+     * @param principal the user the token is issued to
+     * @return the raw refresh token to hand to the client
+     */
+    String issue(AuthPrincipal principal);
+
+    /**
+     * Consumes the presented refresh token and issues its successor in the same
+     * family.
+     *
+     * @param refreshToken the raw refresh token presented by the client
+     * @return the user the token belongs to and the new raw refresh token
+     */
+    Rotation rotate(String refreshToken);
+
+    /**
+     * Revokes the family of the presented refresh token if it belongs to the
+     * user. Unknown tokens are ignored.
+     *
+     * @param refreshToken the raw refresh token
+     * @param userId       the id of the user logging out
+     */
+    void revoke(String refreshToken, Long userId);
+
+    /**
+     * Revokes every active refresh token of the user.
+     *
+     * @param userId the user id
+     */
+    void revokeAll(Long userId);
+
+    /**
+     * Result of a refresh token rotation.
+     *
+     * @param principal    the user the token belongs to
+     * @param refreshToken the new raw refresh token
+     */
+    record Rotation(AuthPrincipal principal, String refreshToken) {
+    }
+}
@@ -1,29 +1,48 @@
 package com.twine.service.impl;
 
 import com.twine.constants.ErrorConstants;
+import com.twine.constants.ObservabilityConstants;
 import com.twine.dto.AuthenticationRequest;
 import com.twine.dto.AuthenticationResponse;
 import com.twine.dto.InitiateRegistrationRequest;
+import com.twine.dto.InitiateRegistrationResponse;
+import com.twine.dto.LogoutRequest;
+import com.twine.dto.RefreshTokenRequest;
 import com.twine.dto.RegisterRequest;
 import com.twine.entity.AuthUser;
 import com.twine.entity.Role;
 import com.twine.exception.AuthenticationException;
 import com.twine.exception.ResourceAlreadyExistsException;
 import com.twine.exception.ResourceNotFoundException;
+import com.twine.observability.RequestTiming;
 import com.twine.repository.AuthUserRepository;
+import com.twine.security.AuthPrincipal;
 import com.twine.security.JwtService;
+import com.twine.security.RegisteredEmailFilter;
+import com.twine.security.TokenRevocationService;
+import com.twine.security.TokenVersionRegistry;
+import com.twine.security.VerifiedToken;
+import com.twine.security.strategy.AuthenticationStrategyRegistry;
 import com.twine.service.IAuthenticationService;
 import com.twine.service.IOtpService;
+import com.twine.service.IRefreshTokenService;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 /**
  * Service implementation for user authentication and registration operations.
+ * <p>
+ * The registered-email check, strategy authentication, JWT signing and
+ * refresh token issue or rotation are recorded as {@link RequestTiming}
+ * phases.
+ * </p>
  */
 @Service
 @RequiredArgsConstructor
@@ -32,91 +51,183 @@ public class AuthenticationServiceImpl implements IAuthenticationService {
     private final AuthUserRepository authUserRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
-    private final AuthenticationManager authenticationManager;
+    private final AuthenticationStrategyRegistry authenticationStrategyRegistry;
     private final IOtpService otpService;
+    private final IRefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final RegisteredEmailFilter registeredEmailFilter;
 
     /**
      * Initiates the registration process for a new user by validating the email and
-     * sending an OTP.
+     * sending an OTP. Not transactional itself, so requests coalesced onto an
+     * initiation in flight do not hold a connection while they wait.
      *
      * @param request the registration initiation request
+     * @return whether a new OTP was sent and when another may be requested
      */
     @Override
-    @Transactional
-    public void initiateRegistration(InitiateRegistrationRequest request) {
+    public InitiateRegistrationResponse initiateRegistration(InitiateRegistrationRequest request) {
         validateEmailNotExists(request.getEmail());
-        otpService.generateAndSendOtp(request.getEmail());
+        IOtpService.OtpIssue issue = otpService.generateAndSendOtp(request.getEmail());
+        return InitiateRegistrationResponse.builder()
+                .otpSent(issue.sent())
+                .resendAvailableAt(issue.resendAvailableAt())
+                .resendAfterSeconds(secondsUntil(issue.resendAvailableAt()))
+                .build();
     }
 
     /**
      * Completes the registration process by validating the OTP and creating the
-     * user.
+     * user. Not transactional itself: the password is hashed before any
+     * connection is taken, then the OTP check, the user insert and the refresh
+     * token issue each run in their own short transaction. A rejected OTP
+     * still commits, so the failed attempt is counted.
      *
      * @param request the registration completion request
      * @return the authentication response after successful registration
      */
     @Override
-    @Transactional
     public AuthenticationResponse completeRegistration(RegisterRequest request) {
         validateEmailNotExists(request.getEmail());
+        String passwordHash = passwordEncoder.encode(request.getPassword());
         otpService.validateOtp(request.getEmail(), request.getOtp());
 
-        AuthUser authUser = createUser(request);
-        String jwtToken = jwtService.generateToken(authUser);
+        AuthUser authUser = createUser(request.getEmail(), passwordHash);
+        return buildAuthenticationResponse(AuthPrincipal.from(authUser));
+    }
+
+    /**
+     * Authenticates a user through the strategy that supports the request and
+     * returns a JWT token. The principal authenticated by the strategy is
+     * reused to mint the token, so a login reads the user at most once. Not
+     * transactional, so no connection is held while the password is verified;
+     * a rehashed password and the refresh token are written in their own
+     * short transactions.
+     *
+     * @param request the authentication request
+     * @return the authentication response after successful authentication
+     */
+    @Override
+    public AuthenticationResponse authenticate(AuthenticationRequest request) {
+        long startedAt = System.nanoTime();
+        AuthPrincipal principal;
+        try {
+            principal = authenticationStrategyRegistry.authenticate(request);
+        } finally {
+            RequestTiming.record(ObservabilityConstants.PHASE_AUTHENTICATE, startedAt);
+        }
+        return buildAuthenticationResponse(principal);
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a rotated refresh
+     * token, without re-checking the password.
+     *
+     * @param request the refresh token request
+     * @return the authentication response with the new token pair
+     */
+    @Override
+    public AuthenticationResponse refresh(RefreshTokenRequest request) {
+        long startedAt = System.nanoTime();
+        IRefreshTokenService.Rotation rotation;
+        try {
+            rotation = refreshTokenService.rotate(request.getRefreshToken());
+        } finally {
+            RequestTiming.record(ObservabilityConstants.PHASE_REFRESH_TOKEN, startedAt);
+        }
 
         return AuthenticationResponse.builder()
-                .token(jwtToken)
+                .token(signToken(rotation.principal()))
+                .refreshToken(rotation.refreshToken())
                 .build();
     }
 
     /**
-     * Authenticates a user based on the provided credentials and returns a JWT
-     * token.
+     * Revokes the current access token and, if given, the refresh token family
+     * of the session.
      *
-     * @param request the authentication request
-     * @return the authentication response after successful authentication
+     * @param token   the verified access token of the current request
+     * @param request the logout request
      */
     @Override
     @Transactional
-    public AuthenticationResponse authenticate(AuthenticationRequest request) {
-        authenticateUser(request);
-        AuthUser authUser = findUserByEmail(request.getEmail());
-        String jwtToken = jwtService.generateToken(authUser);
+    public void logout(VerifiedToken token, LogoutRequest request) {
+        if (token.getJti() != null) {
+            tokenRevocationService.revoke(token.getJti(), token.getExpiresAt());
+        }
+        if (request != null && request.getRefreshToken() != null) {
+            refreshTokenService.revoke(request.getRefreshToken(), token.getUserId());
+        }
+    }
 
+    /**
+     * Revokes every session of the user by bumping the token version, which
+     * invalidates all issued access tokens, and revoking all refresh tokens.
+     *
+     * @param token the verified access token of the current request
+     */
+    @Override
+    @Transactional
+    public void logoutAll(VerifiedToken token) {
+        AuthUser authUser = authUserRepository.findById(token.getUserId())
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.USER_NOT_FOUND));
+        tokenVersionRegistry.invalidateTokens(authUser);
+        refreshTokenService.revokeAll(authUser.getId());
+    }
+
+    private AuthenticationResponse buildAuthenticationResponse(AuthPrincipal principal) {
+        String token = signToken(principal);
+        long startedAt = System.nanoTime();
+        String refreshToken = refreshTokenService.issue(principal);
+        RequestTiming.record(ObservabilityConstants.PHASE_REFRESH_TOKEN, startedAt);
         return AuthenticationResponse.builder()
-                .token(jwtToken)
+                .token(token)
+                .refreshToken(refreshToken)
                 .build();
     }
 
+    private String signToken(AuthPrincipal principal) {
+        long startedAt = System.nanoTime();
+        String token = jwtService.generateToken(principal);
+        RequestTiming.record(ObservabilityConstants.PHASE_JWT_SIGN, startedAt);
+        return token;
+    }
+
     private void validateEmailNotExists(String email) {
-        if (authUserRepository.existsByEmail(email)) {
+        long startedAt = System.nanoTime();
+        boolean registered = registeredEmailFilter.isRegistered(email);
+        RequestTiming.record(ObservabilityConstants.PHASE_EMAIL_CHECK, startedAt);
+        if (registered) {
             throw new ResourceAlreadyExistsException(ErrorConstants.EMAIL_ALREADY_REGISTERED);
         }
     }
 
-    private AuthUser createUser(RegisterRequest request) {
-        return authUserRepository.save(
-                AuthUser.builder()
-                        .email(request.getEmail())
-                        .password(passwordEncoder.encode(request.getPassword()))
-                        .role(Role.USER)
-                        .enabled(true)
-                        .build());
-    }
-
-    private void authenticateUser(AuthenticationRequest request) {
+    /**
+     * Creates the user, flushing immediately so that a concurrent registration
+     * of the same email is rejected by the unique index as a conflict.
+     */
+    private AuthUser createUser(String email, String passwordHash) {
         try {
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            request.getEmail(),
-                            request.getPassword()));
-        } catch (Exception e) {
-            throw new AuthenticationException(ErrorConstants.INVALID_EMAIL_PASSWORD);
+            return authUserRepository.saveAndFlush(
+                    AuthUser.builder()
+                            .email(email)
+                            .password(passwordHash)
+                            .role(Role.USER)
+                            .enabled(true)
+                            .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new ResourceAlreadyExistsException(ErrorConstants.EMAIL_ALREADY_REGISTERED);
         }
     }
 
-    private AuthUser findUserByEmail(String email) {
-        return authUserRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException(ErrorConstants.USER_NOT_FOUND));
+    /**
+     * Returns the whole seconds a client must wait before the given time,
+     * rounded up so that a retry after that many seconds is never early, and
+     * at least one so that clients always back off.
+     */
+    private static long secondsUntil(LocalDateTime time) {
+        long millis = Duration.between(LocalDateTime.now(), time).toMillis();
+        return Math.max(1, (millis + 999) / 1000);
     }
-}
\ No newline at end of file
+}
@@ -1,206 +1,206 @@
 package com.twine.service.impl;
 
 import com.twine.constants.ErrorConstants;
+import com.twine.constants.ObservabilityConstants;
 import com.twine.constants.OtpConstants;
-import com.twine.entity.Otp;
 import com.twine.exception.AuthenticationException;
-import com.twine.repository.OtpRepository;
+import com.twine.observability.RequestTiming;
+import com.twine.service.IEmailOutboxService;
 import com.twine.service.IOtpService;
+import com.twine.service.IOtpStore;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 /**
  * Service implementation for handling OTP generation, validation, and email
  * delivery.
  * <p>
  * This service is responsible for generating OTP codes, saving and validating
- * them,
- * and sending OTP emails to recipients using a template engine and mail sender.
+ * them through the configured {@link IOtpStore},
+ * and queueing OTP emails in the {@link IEmailOutboxService}, which delivers
+ * them after the transaction commits.
+ * </p>
+ * <p>
+ * Only the database store runs in transactions. With the in-memory store the
+ * codes and their emails stay in memory, so issuing and validating an OTP
+ * takes no database connection. Either way the email is queued before the
+ * code is stored, so a code only becomes redeemable once its delivery has
+ * been accepted.
+ * </p>
+ * <p>
+ * Initiation is idempotent within the resend window: while the recipient's
+ * latest code is unused, unexpired and younger than
+ * {@value OtpConstants#OTP_RESEND_INTERVAL_PROPERTY}, no new code is minted or
+ * sent. Concurrent initiations for the same recipient on this node are
+ * coalesced onto the one in flight and share its outcome.
+ * </p>
+ * <p>
+ * Issuing, waiting on a coalesced initiation and validating are recorded as
+ * {@link RequestTiming} phases. Email delivery happens after commit on the
+ * outbox dispatcher and is not part of any request.
  * </p>
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class EmailOtpServiceImpl implements IOtpService {
-    private final OtpRepository otpRepository;
-    private final JavaMailSender mailSender;
-    private final TemplateEngine templateEngine;
+    private final IOtpStore otpStore;
+    private final IEmailOutboxService emailOutboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean transactional;
+    private final Duration resendInterval;
+    private final ConcurrentMap<String, CompletableFuture<OtpIssue>> inFlight = new ConcurrentHashMap<>();
     private final SecureRandom secureRandom = new SecureRandom();
 
+    public EmailOtpServiceImpl(
+            IOtpStore otpStore,
+            IEmailOutboxService emailOutboxService,
+            TransactionTemplate transactionTemplate,
+            @Value("${" + OtpConstants.OTP_STORE_PROPERTY + ":" + OtpConstants.OTP_STORE_JPA + "}") String store,
+            @Value("${" + OtpConstants.OTP_RESEND_INTERVAL_PROPERTY + ":60000}") long resendIntervalMillis) {
+        this.otpStore = otpStore;
+        this.emailOutboxService = emailOutboxService;
+        this.transactionTemplate = transactionTemplate;
+        this.transactional = OtpConstants.OTP_STORE_JPA.equals(store);
+        this.resendInterval = Duration.ofMillis(resendIntervalMillis);
+    }
+
     /**
-     * Generates an OTP, saves it, and sends it to the recipient via email.
+     * Generates an OTP, queues the OTP email and saves the code, in one
+     * transaction with the database store, unless the recipient's active code
+     * is still within the resend window. Joins an initiation already in flight for the same recipient instead of
+     * starting another. Returns without waiting for the email to be sent.
      *
      * @param recipientEmail the recipient's email address
-     * @throws AuthenticationException if sending the OTP email fails
+     * @return whether a new code was sent and when the next one may be sent
      */
     @Override
-    @Transactional
-    public void generateAndSendOtp(String recipientEmail) {
-        String otpValue = generateRandomOtp();
-        saveOtpForRecipient(recipientEmail, otpValue);
+    public OtpIssue generateAndSendOtp(String recipientEmail) {
+        CompletableFuture<OtpIssue> flight = new CompletableFuture<>();
+        CompletableFuture<OtpIssue> leader = inFlight.putIfAbsent(recipientEmail, flight);
+        long startedAt = System.nanoTime();
+        if (leader != null) {
+            log.debug("Joining OTP initiation already in flight for email: {}", recipientEmail);
+            try {
+                return await(leader);
+            } finally {
+                RequestTiming.record(ObservabilityConstants.PHASE_OTP_WAIT, startedAt);
+            }
+        }
         try {
-            sendOtpEmail(recipientEmail, otpValue);
-        } catch (MessagingException e) {
-            log.error("Failed to send OTP email to: {}", recipientEmail, e);
-            throw new AuthenticationException(String.format(ErrorConstants.FAILED_TO_SEND_OTP_EMAIL, e.getMessage()));
+            OtpIssue issue = inTransaction(() -> issueOtp(recipientEmail));
+            flight.complete(issue);
+            return issue;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(recipientEmail, flight);
+            RequestTiming.record(ObservabilityConstants.PHASE_OTP_ISSUE, startedAt);
         }
     }
 
     /**
      * Validates the provided OTP for the recipient and marks it as used if valid.
+     * The check commits before a rejection is thrown, so failed attempts are
+     * counted.
      *
      * @param recipientEmail the recipient's email address
      * @param otpValue       the OTP code to validate
      * @throws AuthenticationException if the OTP is invalid, expired, or not found
      */
     @Override
-    @Transactional
     public void validateOtp(String recipientEmail, String otpValue) {
-        Otp otpRecord = findValidOtpForRecipient(recipientEmail);
-        validateOtpNotExpired(otpRecord);
-        validateOtpValue(otpRecord, otpValue);
-        markOtpAsUsed(otpRecord);
-    }
-
-    /**
-     * Sends an OTP email to the specified recipient.
-     *
-     * @param recipientEmail the recipient's email address
-     * @param otpValue       the OTP code to send
-     * @throws MessagingException if email sending fails
-     */
-    public void sendOtpEmail(String recipientEmail, String otpValue) throws MessagingException {
-        try {
-            Context emailContext = createEmailContext(otpValue);
-            String emailContent = templateEngine.process(OtpConstants.OTP_EMAIL_TEMPLATE, emailContext);
-            MimeMessage message = createMimeMessage(recipientEmail, emailContent);
-            mailSender.send(message);
-            log.info("OTP email sent successfully to: {}", recipientEmail);
-        } catch (MessagingException e) {
-            log.error("Failed to send OTP email to: {}", recipientEmail, e);
-            throw new MessagingException("Failed to send OTP email: " + e.getMessage());
+        long startedAt = System.nanoTime();
+        IOtpStore.Verification result = inTransaction(() -> otpStore.consume(recipientEmail, otpValue));
+        RequestTiming.record(ObservabilityConstants.PHASE_OTP_VALIDATE, startedAt);
+        switch (result) {
+            case CONSUMED -> log.info("OTP verified for email: {}", recipientEmail);
+            case NOT_FOUND -> throw new AuthenticationException(ErrorConstants.NO_VALID_OTP);
+            case EXPIRED -> throw new AuthenticationException(ErrorConstants.OTP_EXPIRED);
+            case MISMATCH -> throw new AuthenticationException(ErrorConstants.INVALID_OTP);
+            case ATTEMPTS_EXHAUSTED -> throw new AuthenticationException(ErrorConstants.OTP_ATTEMPTS_EXHAUSTED);
         }
     }
 
     // --- Private Helper Methods ---
 
     /**
-     * Generates a random OTP code using the configured length and character set.
+     * Runs the work in a transaction if OTPs are stored in the database, and
+     * directly otherwise.
      *
-     * @return the generated OTP code
+     * @param work the work to run
+     * @param <T>  the result type
+     * @return the result of the work
      */
-    private String generateRandomOtp() {
-        StringBuilder otpBuilder = new StringBuilder(OtpConstants.OTP_LENGTH);
-        for (int i = 0; i < OtpConstants.OTP_LENGTH; i++) {
-            otpBuilder.append(OtpConstants.OTP_CHARS.charAt(secureRandom.nextInt(OtpConstants.OTP_CHARS.length())));
-        }
-        return otpBuilder.toString();
+    private <T> T inTransaction(Supplier<T> work) {
+        return transactional ? transactionTemplate.execute(status -> work.get()) : work.get();
     }
 
     /**
-     * Saves the generated OTP for the recipient in the repository.
+     * Re-uses the active OTP if it was sent within the resend window, otherwise
+     * queues the email of a new OTP and then stores it, so a rejected email
+     * leaves no code behind.
      *
      * @param recipientEmail the recipient's email address
-     * @param otpValue       the OTP code to save
+     * @return the outcome of the initiation
      */
-    private void saveOtpForRecipient(String recipientEmail, String otpValue) {
-        Otp otp = Otp.builder()
-                .email(recipientEmail)
-                .otpCode(otpValue)
-                .expiryTime(LocalDateTime.now().plusMinutes(OtpConstants.OTP_VALIDITY_MINUTES))
-                .used(false)
-                .createdAt(LocalDateTime.now())
-                .build();
-        otpRepository.save(otp);
-        log.info("OTP saved for email: {}", recipientEmail);
-    }
-
-    /**
-     * Finds a valid (unused and unexpired) OTP for the recipient.
-     *
-     * @param recipientEmail the recipient's email address
-     * @return the valid OTP entity
-     * @throws AuthenticationException if no valid OTP is found
-     */
-    private Otp findValidOtpForRecipient(String recipientEmail) {
-        return otpRepository.findByEmailAndUsedFalseOrderByExpiryTimeDesc(recipientEmail)
-                .orElseThrow(() -> new AuthenticationException(ErrorConstants.NO_VALID_OTP));
-    }
-
-    /**
-     * Validates that the OTP has not expired.
-     *
-     * @param otpRecord the OTP entity to check
-     * @throws AuthenticationException if the OTP is expired
-     */
-    private void validateOtpNotExpired(Otp otpRecord) {
-        if (otpRecord.getExpiryTime().isBefore(LocalDateTime.now())) {
-            throw new AuthenticationException(ErrorConstants.OTP_EXPIRED);
+    private OtpIssue issueOtp(String recipientEmail) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<LocalDateTime> resendAvailableAt = otpStore.findActiveIssuedAt(recipientEmail)
+                .map(issuedAt -> issuedAt.plus(resendInterval))
+                .filter(availableAt -> availableAt.isAfter(now));
+        if (resendAvailableAt.isPresent()) {
+            log.info("Active OTP for email: {} is within the resend window; not sending another", recipientEmail);
+            return new OtpIssue(false, resendAvailableAt.get());
         }
+        String otpValue = generateRandomOtp();
+        LocalDateTime expiresAt = now.plusMinutes(OtpConstants.OTP_VALIDITY_MINUTES);
+        emailOutboxService.enqueueOtpEmail(recipientEmail, otpValue, expiresAt);
+        otpStore.store(recipientEmail, otpValue, expiresAt);
+        return new OtpIssue(true, now.plus(resendInterval));
     }
 
     /**
-     * Validates that the provided OTP code matches the stored OTP.
+     * Waits for an initiation started by another request and returns its
+     * outcome, rethrowing its failure.
      *
-     * @param otpRecord the OTP entity
-     * @param otpValue  the OTP code to validate
-     * @throws AuthenticationException if the OTP code does not match
+     * @param leader the in-flight initiation
+     * @return the outcome of the initiation
      */
-    private void validateOtpValue(Otp otpRecord, String otpValue) {
-        if (!otpRecord.getOtpCode().equals(otpValue)) {
-            throw new AuthenticationException(ErrorConstants.INVALID_OTP);
+    private OtpIssue await(CompletableFuture<OtpIssue> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
     }
 
     /**
-     * Marks the OTP as used in the repository.
-     *
-     * @param otpRecord the OTP entity to mark as used
-     */
-    private void markOtpAsUsed(Otp otpRecord) {
-        otpRecord.setUsed(true);
-        otpRepository.save(otpRecord);
-        log.info("OTP marked as used for email: {}", otpRecord.getEmail());
-    }
-
-    /**
-     * Creates the Thymeleaf context for the OTP email template.
-     *
-     * @param otpValue the OTP code to include in the email
-     * @return the Thymeleaf context with the OTP variable set
-     */
-    private Context createEmailContext(String otpValue) {
-        Context context = new Context();
-        context.setVariable("otp", otpValue);
-        return context;
-    }
-
-    /**
-     * Creates a MIME email message with the given content.
+     * Generates a random OTP code using the configured length and character set.
      *
-     * @param recipientEmail the recipient's email address
-     * @param emailContent   the HTML content of the email
-     * @return the constructed MimeMessage
-     * @throws MessagingException if message creation fails
+     * @return the generated OTP code
      */
-    private MimeMessage createMimeMessage(String recipientEmail, String emailContent) throws MessagingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-        helper.setTo(recipientEmail);
-        helper.setSubject(OtpConstants.EMAIL_SUBJECT);
-        helper.setText(emailContent, true);
-        return message;
+    private String generateRandomOtp() {
+        StringBuilder otpBuilder = new StringBuilder(OtpConstants.OTP_LENGTH);
+        for (int i = 0; i < OtpConstants.OTP_LENGTH; i++) {
+            otpBuilder.append(OtpConstants.OTP_CHARS.charAt(secureRandom.nextInt(OtpConstants.OTP_CHARS.length())));
+        }
+        return otpBuilder.toString();
     }
 }
\ No newline at end of file
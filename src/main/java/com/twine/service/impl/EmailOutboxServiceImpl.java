@@ -0,0 +1,207 @@
+package com.twine.service.impl;
+
+import com.twine.constants.OtpConstants;
+import com.twine.entity.EmailOutbox;
+import com.twine.entity.OutboxStatus;
+import com.twine.repository.EmailOutboxRepository;
+import com.twine.service.IEmailOutboxService;
+import com.twine.service.IOtpEmailSender;
+import com.twine.service.IOtpEmailSender.OtpEmail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transactional outbox for OTP emails, used with the database OTP store.
+ * <p>
+ * Callers only insert a row, so a request never waits on SMTP while holding a
+ * database connection. A scheduled dispatcher claims due rows in batches with
+ * {@code FOR UPDATE SKIP LOCKED}, sends each batch outside any transaction in
+ * a single call, so it goes out over one pooled SMTP connection, and records
+ * the outcome of every message. Failures are retried with exponential backoff and
+ * jitter; messages that exhaust their attempts or would be retried after their
+ * OTP expired are moved to {@link OutboxStatus#DEAD}.
+ * </p>
+ * <p>
+ * The OTP code is cleared as soon as a message is sent or dead-lettered, so
+ * codes only rest in the table while they may still be delivered. Finished
+ * rows are kept for {@value OtpConstants#OUTBOX_RETENTION_PROPERTY}
+ * milliseconds for troubleshooting and then purged.
+ * </p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = OtpConstants.OTP_STORE_PROPERTY, havingValue = OtpConstants.OTP_STORE_JPA,
+        matchIfMissing = true)
+public class EmailOutboxServiceImpl implements IEmailOutboxService {
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final IOtpEmailSender otpEmailSender;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final RetryBackoff backoff;
+    private final Duration lease;
+    private final Duration retention;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+
+    public EmailOutboxServiceImpl(
+            EmailOutboxRepository emailOutboxRepository,
+            IOtpEmailSender otpEmailSender,
+            MeterRegistry meterRegistry,
+            @Value("${" + OtpConstants.OUTBOX_BATCH_SIZE_PROPERTY + ":50}") int batchSize,
+            @Value("${" + OtpConstants.OUTBOX_MAX_ATTEMPTS_PROPERTY + ":5}") int maxAttempts,
+            @Value("${" + OtpConstants.OUTBOX_INITIAL_BACKOFF_PROPERTY + ":2000}") long initialBackoffMillis,
+            @Value("${" + OtpConstants.OUTBOX_MAX_BACKOFF_PROPERTY + ":60000}") long maxBackoffMillis,
+            @Value("${" + OtpConstants.OUTBOX_LEASE_PROPERTY + ":120000}") long leaseMillis,
+            @Value("${" + OtpConstants.OUTBOX_RETENTION_PROPERTY + ":86400000}") long retentionMillis) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.otpEmailSender = otpEmailSender;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = new RetryBackoff(Duration.ofMillis(initialBackoffMillis), Duration.ofMillis(maxBackoffMillis));
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.retention = Duration.ofMillis(retentionMillis);
+        this.sentCounter = outboxDeliveries(meterRegistry, "sent");
+        this.retriedCounter = outboxDeliveries(meterRegistry, "retried");
+        this.deadCounter = outboxDeliveries(meterRegistry, "dead");
+    }
+
+    /**
+     * Queues an OTP email in the caller's transaction.
+     *
+     * @param recipientEmail the recipient's email address
+     * @param otpValue       the OTP code to send
+     * @param expiresAt      the OTP expiry, after which delivery is abandoned
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueOtpEmail(String recipientEmail, String otpValue, LocalDateTime expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(recipientEmail)
+                .otpCode(otpValue)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .expiresAt(expiresAt)
+                .createdAt(now)
+                .build());
+        log.info("OTP email queued for: {}", recipientEmail);
+    }
+
+    /**
+     * Claims due messages and delivers them until no due message is left.
+     *
+     * @return the number of messages claimed
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${" + OtpConstants.OUTBOX_POLL_INTERVAL_PROPERTY + ":1000}")
+    public int dispatch() {
+        int claimed = 0;
+        List<EmailOutbox> batch;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            batch = emailOutboxRepository.claimBatch(now, now.plus(lease), batchSize);
+            deliver(batch);
+            claimed += batch.size();
+        } while (batch.size() == batchSize);
+        return claimed;
+    }
+
+    /**
+     * Deletes sent and dead messages older than the retention period, chunk by
+     * chunk until none are left.
+     *
+     * @return the number of deleted rows
+     */
+    @Scheduled(fixedDelayString = "${" + OtpConstants.OUTBOX_PURGE_INTERVAL_PROPERTY + ":3600000}",
+            initialDelayString = "${" + OtpConstants.OUTBOX_PURGE_INTERVAL_PROPERTY + ":3600000}")
+    public int purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = emailOutboxRepository.deleteFinishedBatch(cutoff, OtpConstants.OUTBOX_PURGE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == OtpConstants.OUTBOX_PURGE_BATCH_SIZE);
+        if (total > 0) {
+            log.info("Purged {} finished outbox message(s)", total);
+        }
+        return total;
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Sends a claimed batch and records the outcome of every message.
+     *
+     * @param batch the claimed messages
+     */
+    private void deliver(List<EmailOutbox> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<OtpEmail> emails = new ArrayList<>(batch.size());
+        batch.forEach(message -> emails.add(new OtpEmail(message.getRecipient(), message.getOtpCode())));
+        Map<OtpEmail, Exception> failures = otpEmailSender.sendOtpEmails(emails);
+        LocalDateTime sentAt = LocalDateTime.now();
+        for (int i = 0; i < batch.size(); i++) {
+            Exception failure = failures.get(emails.get(i));
+            if (failure == null) {
+                emailOutboxRepository.markSent(batch.get(i).getId(), sentAt);
+                sentCounter.increment();
+            } else {
+                handleFailure(batch.get(i), failure);
+            }
+        }
+    }
+
+    /**
+     * Schedules a retry with exponential backoff and jitter, or dead-letters the
+     * message when retrying is futile.
+     *
+     * @param message the message that failed
+     * @param failure the cause of the failure
+     */
+    private void handleFailure(EmailOutbox message, Exception failure) {
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff.after(message.getAttempts()));
+        String error = abbreviate(String.valueOf(failure.getMessage()));
+        if (message.getAttempts() >= maxAttempts || nextAttemptAt.isAfter(message.getExpiresAt())) {
+            emailOutboxRepository.markDead(message.getId(), error);
+            deadCounter.increment();
+            log.error("OTP email to {} dead-lettered after {} attempt(s)", message.getRecipient(),
+                    message.getAttempts(), failure);
+        } else {
+            emailOutboxRepository.markRetry(message.getId(), nextAttemptAt, error);
+            retriedCounter.increment();
+            log.warn("OTP email to {} failed (attempt {}), retrying at {}: {}", message.getRecipient(),
+                    message.getAttempts(), nextAttemptAt, error);
+        }
+    }
+
+    private String abbreviate(String error) {
+        return error.length() <= OtpConstants.OUTBOX_ERROR_MAX_LENGTH
+                ? error : error.substring(0, OtpConstants.OUTBOX_ERROR_MAX_LENGTH);
+    }
+
+    private static Counter outboxDeliveries(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("twine.email.outbox.deliveries")
+                .description("Outbox delivery attempts by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,201 @@
+package com.twine.service.impl;
+
+import com.twine.constants.ErrorConstants;
+import com.twine.constants.OtpConstants;
+import com.twine.exception.TooManyRequestsException;
+import com.twine.service.IEmailOutboxService;
+import com.twine.service.IOtpEmailSender;
+import com.twine.service.IOtpEmailSender.OtpEmail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Outbox for OTP emails that queues them in process memory, used with the
+ * in-memory OTP store so issuing a code never touches the database.
+ * <p>
+ * Delivery follows the database outbox: a scheduled dispatcher takes due
+ * messages in batches, sends each batch in a single call over one pooled SMTP
+ * connection, and retries failures with the same backoff until the attempts
+ * are exhausted or the OTP would expire first. The queue is bounded by
+ * {@value OtpConstants#OUTBOX_MEMORY_CAPACITY_PROPERTY} messages; a full queue
+ * rejects new messages with {@link TooManyRequestsException}, before any code
+ * is stored. Like the in-memory OTP store, messages pending when the node
+ * stops are lost; the user can request a new code once the resend window has
+ * passed.
+ * </p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = OtpConstants.OTP_STORE_PROPERTY, havingValue = OtpConstants.OTP_STORE_MEMORY)
+public class InMemoryEmailOutboxServiceImpl implements IEmailOutboxService {
+    private final DelayQueue<PendingEmail> queue = new DelayQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final IOtpEmailSender otpEmailSender;
+    private final int capacity;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final RetryBackoff backoff;
+    private final long retryAfterSeconds;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+
+    public InMemoryEmailOutboxServiceImpl(
+            IOtpEmailSender otpEmailSender,
+            MeterRegistry meterRegistry,
+            @Value("${" + OtpConstants.OUTBOX_MEMORY_CAPACITY_PROPERTY + ":10000}") int capacity,
+            @Value("${" + OtpConstants.OUTBOX_BATCH_SIZE_PROPERTY + ":50}") int batchSize,
+            @Value("${" + OtpConstants.OUTBOX_MAX_ATTEMPTS_PROPERTY + ":5}") int maxAttempts,
+            @Value("${" + OtpConstants.OUTBOX_INITIAL_BACKOFF_PROPERTY + ":2000}") long initialBackoffMillis,
+            @Value("${" + OtpConstants.OUTBOX_MAX_BACKOFF_PROPERTY + ":60000}") long maxBackoffMillis,
+            @Value("${" + OtpConstants.OUTBOX_POLL_INTERVAL_PROPERTY + ":1000}") long pollIntervalMillis) {
+        this.otpEmailSender = otpEmailSender;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = new RetryBackoff(Duration.ofMillis(initialBackoffMillis), Duration.ofMillis(maxBackoffMillis));
+        this.retryAfterSeconds = Math.max(1, (pollIntervalMillis + 999) / 1000);
+        this.sentCounter = outboxDeliveries(meterRegistry, "sent");
+        this.retriedCounter = outboxDeliveries(meterRegistry, "retried");
+        this.deadCounter = outboxDeliveries(meterRegistry, "dead");
+        Gauge.builder("twine.email.outbox.memory.size", pending, AtomicInteger::get)
+                .description("OTP emails waiting in the in-memory outbox")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues an OTP email for the next dispatch.
+     *
+     * @param recipientEmail the recipient's email address
+     * @param otpValue       the OTP code to send
+     * @param expiresAt      the OTP expiry, after which delivery is abandoned
+     * @throws TooManyRequestsException if the outbox is full
+     */
+    @Override
+    public void enqueueOtpEmail(String recipientEmail, String otpValue, LocalDateTime expiresAt) {
+        if (pending.incrementAndGet() > capacity) {
+            pending.decrementAndGet();
+            log.warn("In-memory outbox is full; rejecting OTP email to {}", recipientEmail);
+            throw new TooManyRequestsException(ErrorConstants.TOO_MANY_PENDING_OTP_EMAILS, retryAfterSeconds);
+        }
+        queue.add(new PendingEmail(new OtpEmail(recipientEmail, otpValue), expiresAt, 0, System.nanoTime()));
+        log.info("OTP email queued for: {}", recipientEmail);
+    }
+
+    /**
+     * Takes due messages and delivers them until no due message is left.
+     *
+     * @return the number of messages taken
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${" + OtpConstants.OUTBOX_POLL_INTERVAL_PROPERTY + ":1000}")
+    public int dispatch() {
+        int taken = 0;
+        List<PendingEmail> batch;
+        do {
+            batch = new ArrayList<>();
+            PendingEmail message;
+            while (batch.size() < batchSize && (message = queue.poll()) != null) {
+                batch.add(message);
+            }
+            deliver(batch);
+            taken += batch.size();
+        } while (batch.size() == batchSize);
+        return taken;
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Sends a batch and records the outcome of every message.
+     *
+     * @param batch the due messages
+     */
+    private void deliver(List<PendingEmail> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<OtpEmail> emails = new ArrayList<>(batch.size());
+        batch.forEach(message -> emails.add(message.email()));
+        Map<OtpEmail, Exception> failures = otpEmailSender.sendOtpEmails(emails);
+        for (PendingEmail message : batch) {
+            Exception failure = failures.get(message.email());
+            if (failure == null) {
+                pending.decrementAndGet();
+                sentCounter.increment();
+            } else {
+                handleFailure(message, failure);
+            }
+        }
+    }
+
+    /**
+     * Queues a retry with backoff, or drops the message when retrying is futile.
+     *
+     * @param message the message that failed
+     * @param failure the cause of the failure
+     */
+    private void handleFailure(PendingEmail message, Exception failure) {
+        int attempts = message.attempts() + 1;
+        Duration delay = backoff.after(attempts);
+        String recipient = message.email().recipientEmail();
+        if (attempts >= maxAttempts || LocalDateTime.now().plus(delay).isAfter(message.expiresAt())) {
+            pending.decrementAndGet();
+            deadCounter.increment();
+            log.error("OTP email to {} dropped after {} attempt(s)", recipient, attempts, failure);
+        } else {
+            queue.add(new PendingEmail(message.email(), message.expiresAt(), attempts,
+                    System.nanoTime() + delay.toNanos()));
+            retriedCounter.increment();
+            log.warn("OTP email to {} failed (attempt {}), retrying in {} ms: {}", recipient, attempts,
+                    delay.toMillis(), failure.getMessage());
+        }
+    }
+
+    private static Counter outboxDeliveries(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("twine.email.outbox.deliveries")
+                .description("Outbox delivery attempts by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A queued OTP email, due once {@link System#nanoTime()} reaches
+     * {@code dueAtNanos}.
+     *
+     * @param email      the email to send
+     * @param expiresAt  the OTP expiry
+     * @param attempts   the number of attempts made so far
+     * @param dueAtNanos when the next attempt is due
+     */
+    private record PendingEmail(OtpEmail email, LocalDateTime expiresAt, int attempts, long dueAtNanos)
+            implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
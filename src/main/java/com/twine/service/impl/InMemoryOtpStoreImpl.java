@@ -0,0 +1,264 @@
+package com.twine.service.impl;
+
+import com.twine.constants.OtpConstants;
+import com.twine.service.IOtpStore;
+import com.twine.util.HashedTimingWheel;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * OTP store that keeps codes in process memory, for single-node deployments
+ * and test environments that should not touch the database for OTPs.
+ * <p>
+ * Codes live in a fixed number of shards, each an insertion-ordered map
+ * guarded by its own lock, so issue and verify for different emails rarely
+ * contend. Only the latest code per email is kept. Expired codes are
+ * reclaimed by a {@link HashedTimingWheel} that holds exactly one timeout per
+ * stored code: it is cancelled whenever the code is replaced, consumed or
+ * evicted, so the wheel is bounded like the shards. Lookups also check the deadline,
+ * so a code is never accepted late even if reclamation lags. Each shard holds
+ * at most its share of the configured maximum; when full, the oldest code in
+ * the shard (the one closest to expiry, since all codes have the same
+ * lifetime) is evicted. Codes do not survive a restart and are not shared
+ * between nodes.
+ * </p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = OtpConstants.OTP_STORE_PROPERTY, havingValue = OtpConstants.OTP_STORE_MEMORY)
+public class InMemoryOtpStoreImpl implements IOtpStore {
+    private final Shard[] shards;
+    private final HashedTimingWheel<Expiry> timingWheel;
+    private final int maxAttempts;
+    private final Counter expiredEvictions;
+    private final Counter capacityEvictions;
+
+    public InMemoryOtpStoreImpl(
+            MeterRegistry meterRegistry,
+            @Value("${" + OtpConstants.OTP_MAX_ATTEMPTS_PROPERTY + ":5}") int maxAttempts,
+            @Value("${" + OtpConstants.OTP_MEMORY_MAX_ENTRIES_PROPERTY + ":100000}") int maxEntries,
+            @Value("${" + OtpConstants.OTP_MEMORY_SHARDS_PROPERTY + ":64}") int shardCount,
+            @Value("${" + OtpConstants.OTP_MEMORY_TICK_PROPERTY + ":1000}") long tickMillis,
+            @Value("${" + OtpConstants.OTP_MEMORY_WHEEL_SIZE_PROPERTY + ":512}") int wheelSize) {
+        this.maxAttempts = maxAttempts;
+        int shardCapacity = Math.max(1, maxEntries / shardCount);
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(shardCapacity);
+        }
+        this.timingWheel = new HashedTimingWheel<>(wheelSize, tickMillis, System.currentTimeMillis());
+        this.expiredEvictions = otpEvictions(meterRegistry, "expired");
+        this.capacityEvictions = otpEvictions(meterRegistry, "capacity");
+        Gauge.builder("twine.otp.memory.size", this, InMemoryOtpStoreImpl::size)
+                .description("OTP codes held by the in-memory OTP store")
+                .register(meterRegistry);
+        log.warn("Using the in-memory OTP store; OTPs are lost on restart and not shared between nodes");
+    }
+
+    /**
+     * Stores the OTP, replacing any earlier code for the recipient.
+     *
+     * @param recipient the recipient's email address
+     * @param otpCode   the OTP code
+     * @param expiresAt when the OTP expires
+     */
+    @Override
+    public void store(String recipient, String otpCode, LocalDateTime expiresAt) {
+        StoredOtp entry = new StoredOtp(otpCode.getBytes(StandardCharsets.UTF_8), System.currentTimeMillis(),
+                toEpochMillis(expiresAt));
+        Shard shard = shardFor(recipient);
+        shard.lock.lock();
+        try {
+            drop(shard.entries.remove(recipient));
+            shard.entries.put(recipient, entry);
+            entry.expiry = timingWheel.schedule(new Expiry(recipient, entry), entry.expiresAtMillis());
+            if (shard.entries.size() > shard.capacity) {
+                Iterator<StoredOtp> eldest = shard.entries.values().iterator();
+                drop(eldest.next());
+                eldest.remove();
+                capacityEvictions.increment();
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the issue time of the recipient's code if it has not expired.
+     *
+     * @param recipient the recipient's email address
+     * @return the issue time of the active OTP, or empty if there is none
+     */
+    @Override
+    public Optional<LocalDateTime> findActiveIssuedAt(String recipient) {
+        Shard shard = shardFor(recipient);
+        shard.lock.lock();
+        try {
+            StoredOtp entry = shard.entries.get(recipient);
+            if (entry == null || entry.expiresAtMillis() <= System.currentTimeMillis()) {
+                return Optional.empty();
+            }
+            return Optional.of(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.issuedAtMillis()),
+                    ZoneId.systemDefault()));
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Checks and consumes the recipient's OTP under the shard lock, so a code
+     * can be consumed at most once. The code is dropped once the configured
+     * number of wrong attempts is reached.
+     *
+     * @param recipient the recipient's email address
+     * @param otpCode   the OTP code presented by the user
+     * @return the outcome of the check
+     */
+    @Override
+    public Verification consume(String recipient, String otpCode) {
+        Shard shard = shardFor(recipient);
+        shard.lock.lock();
+        try {
+            StoredOtp entry = shard.entries.get(recipient);
+            if (entry == null) {
+                return Verification.NOT_FOUND;
+            }
+            if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+                drop(shard.entries.remove(recipient));
+                return Verification.EXPIRED;
+            }
+            if (!MessageDigest.isEqual(entry.otpCode(), otpCode.getBytes(StandardCharsets.UTF_8))) {
+                if (++entry.failedAttempts >= maxAttempts) {
+                    drop(shard.entries.remove(recipient));
+                    return Verification.ATTEMPTS_EXHAUSTED;
+                }
+                return Verification.MISMATCH;
+            }
+            drop(shard.entries.remove(recipient));
+            return Verification.CONSUMED;
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Reclaims codes whose deadline has passed.
+     */
+    @Scheduled(fixedRateString = "${" + OtpConstants.OTP_MEMORY_TICK_PROPERTY + ":1000}")
+    public void expire() {
+        timingWheel.advance(System.currentTimeMillis(), this::remove);
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Removes an expired code unless it has already been consumed or replaced.
+     * Its timeout has already left the wheel.
+     */
+    private void remove(Expiry expiry) {
+        Shard shard = shardFor(expiry.recipient());
+        shard.lock.lock();
+        try {
+            if (shard.entries.remove(expiry.recipient(), expiry.otp())) {
+                expiredEvictions.increment();
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Cancels the expiry of a code leaving the store before its deadline.
+     * Called under the shard lock.
+     */
+    private static void drop(StoredOtp removed) {
+        if (removed != null && removed.expiry != null) {
+            removed.expiry.cancel();
+        }
+    }
+
+    private Shard shardFor(String recipient) {
+        int hash = recipient.hashCode();
+        return shards[Math.floorMod(hash ^ (hash >>> 16), shards.length)];
+    }
+
+    private int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.entries.size();
+        }
+        return size;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static Counter otpEvictions(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("twine.otp.memory.evictions")
+                .description("OTP codes dropped from the in-memory OTP store before being consumed")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A stored code; compared by identity so a replaced code is never removed
+     * on behalf of its successor.
+     */
+    private static final class StoredOtp {
+        private final byte[] otpCode;
+        private final long issuedAtMillis;
+        private final long expiresAtMillis;
+        private int failedAttempts;
+        private HashedTimingWheel.Timeout<Expiry> expiry;
+
+        private StoredOtp(byte[] otpCode, long issuedAtMillis, long expiresAtMillis) {
+            this.otpCode = otpCode;
+            this.issuedAtMillis = issuedAtMillis;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        byte[] otpCode() {
+            return otpCode;
+        }
+
+        long issuedAtMillis() {
+            return issuedAtMillis;
+        }
+
+        long expiresAtMillis() {
+            return expiresAtMillis;
+        }
+    }
+
+    private record Expiry(String recipient, StoredOtp otp) {
+    }
+
+    private static final class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, StoredOtp> entries = new LinkedHashMap<>();
+        private final int capacity;
+
+        private Shard(int capacity) {
+            this.capacity = capacity;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.twine.service.impl;
+
+import com.twine.constants.OtpConstants;
+import com.twine.entity.Otp;
+import com.twine.repository.OtpRepository;
+import com.twine.service.IOtpStore;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OTP store backed by the {@code otp_records} table. This is the default
+ * backend and the only one suitable for multi-node deployments.
+ * <p>
+ * Expired rows are purged on a schedule in small chunks, each its own short
+ * transaction, so the table stays proportional to the number of OTPs issued
+ * within the retention period. Purged rows, purge duration and the estimated
+ * table size are published under {@code twine.otp.records.*}.
+ * </p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = OtpConstants.OTP_STORE_PROPERTY, havingValue = OtpConstants.OTP_STORE_JPA,
+        matchIfMissing = true)
+public class JpaOtpStoreImpl implements IOtpStore {
+    private final OtpRepository otpRepository;
+    private final int maxAttempts;
+    private final int purgeBatchSize;
+    private final Duration purgeRetention;
+    private final Counter purgedRows;
+    private final Timer purgeTimer;
+    private final AtomicLong estimatedRows = new AtomicLong();
+
+    public JpaOtpStoreImpl(
+            OtpRepository otpRepository,
+            MeterRegistry meterRegistry,
+            @Value("${" + OtpConstants.OTP_MAX_ATTEMPTS_PROPERTY + ":5}") int maxAttempts,
+            @Value("${" + OtpConstants.OTP_PURGE_BATCH_SIZE_PROPERTY + ":1000}") int purgeBatchSize,
+            @Value("${" + OtpConstants.OTP_PURGE_RETENTION_PROPERTY + ":3600000}") long purgeRetentionMillis) {
+        this.otpRepository = otpRepository;
+        this.maxAttempts = maxAttempts;
+        this.purgeBatchSize = purgeBatchSize;
+        this.purgeRetention = Duration.ofMillis(purgeRetentionMillis);
+        this.purgedRows = Counter.builder("twine.otp.records.purged")
+                .description("Expired OTP rows deleted by the purge job")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("twine.otp.records.purge")
+                .description("Duration of a full OTP purge run")
+                .register(meterRegistry);
+        Gauge.builder("twine.otp.records.size", estimatedRows, AtomicLong::get)
+                .description("Estimated number of rows in otp_records, refreshed after each purge")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Saves the OTP as a new row.
+     *
+     * @param recipient the recipient's email address
+     * @param otpCode   the OTP code
+     * @param expiresAt when the OTP expires
+     */
+    @Override
+    @Transactional
+    public void store(String recipient, String otpCode, LocalDateTime expiresAt) {
+        otpRepository.save(Otp.builder()
+                .email(recipient)
+                .otpCode(otpCode)
+                .expiryTime(expiresAt)
+                .used(false)
+                .createdAt(LocalDateTime.now())
+                .build());
+        log.info("OTP saved for email: {}", recipient);
+    }
+
+    /**
+     * Looks up the latest OTP row of the recipient and returns its creation time
+     * if it can still be used.
+     *
+     * @param recipient the recipient's email address
+     * @return the issue time of the active OTP, or empty if there is none
+     */
+    @Override
+    public Optional<LocalDateTime> findActiveIssuedAt(String recipient) {
+        LocalDateTime now = LocalDateTime.now();
+        return otpRepository.findFirstByEmailOrderByExpiryTimeDesc(recipient)
+                .filter(otpRecord -> !otpRecord.isUsed() && otpRecord.getExpiryTime().isAfter(now))
+                .map(Otp::getCreatedAt);
+    }
+
+    /**
+     * Verifies the code against the recipient's latest OTP and consumes it or
+     * records the failed attempt, in a single conditional update.
+     *
+     * @param recipient the recipient's email address
+     * @param otpCode   the OTP code presented by the user
+     * @return the outcome of the check
+     */
+    @Override
+    public Verification consume(String recipient, String otpCode) {
+        List<Object[]> result = otpRepository.verifyLatest(recipient, otpCode, LocalDateTime.now(), maxAttempts);
+        if (result.isEmpty()) {
+            return Verification.NOT_FOUND;
+        }
+        Object[] row = result.get(0);
+        boolean matched = (Boolean) row[0];
+        boolean live = (Boolean) row[1];
+        boolean used = (Boolean) row[2];
+        if (!live) {
+            return Verification.EXPIRED;
+        }
+        if (matched) {
+            log.info("OTP marked as used for email: {}", recipient);
+            return Verification.CONSUMED;
+        }
+        if (used) {
+            log.warn("OTP invalidated after {} failed attempts for email: {}", maxAttempts, recipient);
+            return Verification.ATTEMPTS_EXHAUSTED;
+        }
+        return Verification.MISMATCH;
+    }
+
+    /**
+     * Deletes OTPs that expired more than the retention period ago, chunk by
+     * chunk until none are left. Expired rows are kept for a while so that late
+     * verification attempts are still told the code expired.
+     *
+     * @return the number of deleted rows
+     */
+    @Scheduled(fixedDelayString = "${" + OtpConstants.OTP_PURGE_INTERVAL_PROPERTY + ":300000}",
+            initialDelayString = "${" + OtpConstants.OTP_PURGE_INTERVAL_PROPERTY + ":300000}")
+    public int purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(purgeRetention);
+        int purged = purgeTimer.record(() -> {
+            int total = 0;
+            int deleted;
+            do {
+                deleted = otpRepository.deleteExpiredBatch(cutoff, purgeBatchSize);
+                total += deleted;
+            } while (deleted == purgeBatchSize);
+            return total;
+        });
+        purgedRows.increment(purged);
+        Long rows = otpRepository.estimateRowCount();
+        estimatedRows.set(rows == null ? 0 : Math.max(rows, 0));
+        if (purged > 0) {
+            log.info("Purged {} expired OTP record(s)", purged);
+        }
+        return purged;
+    }
+}
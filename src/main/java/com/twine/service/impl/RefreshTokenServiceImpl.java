@@ -0,0 +1,237 @@
+package com.twine.service.impl;
+
+import com.twine.constants.AuthConstants;
+import com.twine.constants.ErrorConstants;
+import com.twine.entity.AuthUser;
+import com.twine.entity.RefreshToken;
+import com.twine.exception.AuthenticationException;
+import com.twine.repository.AuthUserRepository;
+import com.twine.repository.RefreshTokenRepository;
+import com.twine.security.AuthPrincipal;
+import com.twine.service.IRefreshTokenService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Service implementation for opaque, rotating refresh tokens.
+ * <p>
+ * Raw tokens are random and never stored; lookups go through the unique index
+ * on the SHA-256 hash of the token. A refresh costs one indexed read (joined
+ * with the user), one conditional update and one insert, and no password
+ * hashing. Presenting an already consumed token is treated as theft and
+ * revokes the entire token family.
+ * </p>
+ * <p>
+ * Every login, registration and rotation inserts a row, so tokens that
+ * expired more than the retention period ago are purged on a schedule in
+ * small chunks, each its own short transaction. Purged rows are counted in
+ * {@code twine.refresh.tokens.purged}.
+ * </p>
+ */
+@Slf4j
+@Service
+public class RefreshTokenServiceImpl implements IRefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AuthUserRepository authUserRepository;
+    private final long refreshExpiration;
+    private final int purgeBatchSize;
+    private final Duration purgeRetention;
+    private final Counter purgedRows;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenServiceImpl(
+            RefreshTokenRepository refreshTokenRepository,
+            AuthUserRepository authUserRepository,
+            MeterRegistry meterRegistry,
+            @Value("${" + AuthConstants.JWT_REFRESH_EXPIRATION_PROPERTY + "}") long refreshExpiration,
+            @Value("${" + AuthConstants.JWT_REFRESH_PURGE_BATCH_SIZE_PROPERTY + ":1000}") int purgeBatchSize,
+            @Value("${" + AuthConstants.JWT_REFRESH_PURGE_RETENTION_PROPERTY + ":86400000}")
+            long purgeRetentionMillis) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.authUserRepository = authUserRepository;
+        this.refreshExpiration = refreshExpiration;
+        this.purgeBatchSize = purgeBatchSize;
+        this.purgeRetention = Duration.ofMillis(purgeRetentionMillis);
+        this.purgedRows = Counter.builder("twine.refresh.tokens.purged")
+                .description("Expired refresh token rows deleted by the purge job")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Issues a refresh token that starts a new token family for the user. The
+     * user is referenced by id only, so no additional read is needed.
+     *
+     * @param principal the user the token is issued to
+     * @return the raw refresh token to hand to the client
+     */
+    @Override
+    @Transactional
+    public String issue(AuthPrincipal principal) {
+        return issueInFamily(authUserRepository.getReferenceById(principal.id()), principal.tokenVersion(),
+                UUID.randomUUID().toString());
+    }
+
+    /**
+     * Consumes the presented refresh token and issues its successor in the same
+     * family.
+     *
+     * @param refreshToken the raw refresh token presented by the client
+     * @return the user the token belongs to and the new raw refresh token
+     * @throws AuthenticationException if the token is unknown, expired, already
+     *                                 used, or belongs to a disabled user
+     */
+    @Override
+    @Transactional(noRollbackFor = AuthenticationException.class)
+    public Rotation rotate(String refreshToken) {
+        RefreshToken storedToken = refreshTokenRepository.findByTokenHashWithUser(hash(refreshToken))
+                .orElseThrow(() -> new AuthenticationException(ErrorConstants.INVALID_REFRESH_TOKEN));
+
+        if (storedToken.isRevoked() || refreshTokenRepository.revokeIfActive(storedToken.getId()) == 0) {
+            revokeFamilyOnReuse(storedToken);
+        }
+        validateRefreshTokenNotExpired(storedToken);
+
+        AuthUser authUser = storedToken.getUser();
+        if (!authUser.isEnabled() || storedToken.getTokenVersion() != authUser.getTokenVersion()) {
+            throw new AuthenticationException(ErrorConstants.INVALID_REFRESH_TOKEN);
+        }
+        return new Rotation(AuthPrincipal.from(authUser),
+                issueInFamily(authUser, authUser.getTokenVersion(), storedToken.getFamilyId()));
+    }
+
+    /**
+     * Revokes the family of the presented refresh token if it belongs to the
+     * user. Unknown tokens are ignored.
+     *
+     * @param refreshToken the raw refresh token
+     * @param userId       the id of the user logging out
+     */
+    @Override
+    @Transactional
+    public void revoke(String refreshToken, Long userId) {
+        refreshTokenRepository.findByTokenHashWithUser(hash(refreshToken))
+                .filter(storedToken -> storedToken.getUser().getId().equals(userId))
+                .ifPresent(storedToken -> refreshTokenRepository.revokeFamily(storedToken.getFamilyId()));
+    }
+
+    /**
+     * Revokes every active refresh token of the user.
+     *
+     * @param userId the user id
+     */
+    @Override
+    @Transactional
+    public void revokeAll(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllForUser(userId);
+        log.info("Revoked {} refresh token(s) for user id: {}", revoked, userId);
+    }
+
+    /**
+     * Deletes refresh tokens that expired more than the retention period ago,
+     * chunk by chunk until none are left. Expired tokens are kept for a while
+     * so that late refreshes are still told the token expired.
+     *
+     * @return the number of deleted rows
+     */
+    @Scheduled(fixedDelayString = "${" + AuthConstants.JWT_REFRESH_PURGE_INTERVAL_PROPERTY + ":3600000}",
+            initialDelayString = "${" + AuthConstants.JWT_REFRESH_PURGE_INTERVAL_PROPERTY + ":3600000}")
+    public int purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(purgeRetention);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpiredBatch(cutoff, purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+        purgedRows.increment(total);
+        if (total > 0) {
+            log.info("Purged {} expired refresh token(s)", total);
+        }
+        return total;
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Creates and stores a new refresh token in the given family.
+     *
+     * @param authUser     the user the token is issued to
+     * @param tokenVersion the user's current token version
+     * @param familyId     the token family id
+     * @return the raw refresh token
+     */
+    private String issueInFamily(AuthUser authUser, int tokenVersion, String familyId) {
+        byte[] randomBytes = new byte[AuthConstants.REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(randomBytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .user(authUser)
+                .familyId(familyId)
+                .tokenVersion(tokenVersion)
+                .expiresAt(LocalDateTime.now().plusNanos(refreshExpiration * 1_000_000L))
+                .revoked(false)
+                .createdAt(LocalDateTime.now())
+                .build());
+        return rawToken;
+    }
+
+    /**
+     * Revokes every token of the family after an already used token was
+     * presented again.
+     *
+     * @param storedToken the reused refresh token
+     * @throws AuthenticationException always
+     */
+    private void revokeFamilyOnReuse(RefreshToken storedToken) {
+        int revoked = refreshTokenRepository.revokeFamily(storedToken.getFamilyId());
+        log.warn("Refresh token reuse detected for family {}; revoked {} active token(s)",
+                storedToken.getFamilyId(), revoked);
+        throw new AuthenticationException(ErrorConstants.REFRESH_TOKEN_REUSED);
+    }
+
+    /**
+     * Validates that the refresh token has not expired.
+     *
+     * @param storedToken the refresh token to check
+     * @throws AuthenticationException if the refresh token is expired
+     */
+    private void validateRefreshTokenNotExpired(RefreshToken storedToken) {
+        if (storedToken.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new AuthenticationException(ErrorConstants.REFRESH_TOKEN_EXPIRED);
+        }
+    }
+
+    /**
+     * Hashes a raw refresh token for storage and lookup.
+     *
+     * @param rawToken the raw refresh token
+     * @return the hex encoded SHA-256 hash
+     */
+    private String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.twine.service.impl;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Delay before retrying a failed OTP email, shared by the outbox
+ * implementations: the initial backoff doubled per attempt, capped, with up to
+ * 50% random jitter so retries from a burst of failures spread out.
+ *
+ * @param initial the delay after the first attempt
+ * @param max     the largest delay before jitter
+ */
+record RetryBackoff(Duration initial, Duration max) {
+
+    /**
+     * Computes the delay before the next attempt.
+     *
+     * @param attempts the number of attempts made so far
+     * @return the delay
+     */
+    Duration after(int attempts) {
+        long exponential = initial.toMillis() << Math.min(Math.max(attempts - 1, 0), 20);
+        long capped = Math.min(exponential, max.toMillis());
+        long jitter = ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+        return Duration.ofMillis(capped - jitter);
+    }
+}
@@ -0,0 +1,135 @@
+package com.twine.service.impl;
+
+import com.twine.mail.OtpEmailRenderer;
+import com.twine.service.IOtpEmailSender;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OTP email sender that builds messages with the {@link OtpEmailRenderer} and
+ * delivers them over SMTP through the configured {@link JavaMailSender}. Batches are
+ * handed to the mail sender in a single call so they share one pooled
+ * connection. The duration of each mail sender call is published as
+ * {@code twine.otp.email.send}, and every email is counted under
+ * {@code twine.otp.emails} as sent or failed at the render or send stage.
+ */
+@Slf4j
+@Service
+public class SmtpOtpEmailSenderImpl implements IOtpEmailSender {
+    private final JavaMailSender mailSender;
+    private final OtpEmailRenderer otpEmailRenderer;
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter renderFailedCounter;
+    private final Counter sendFailedCounter;
+
+    public SmtpOtpEmailSenderImpl(JavaMailSender mailSender, OtpEmailRenderer otpEmailRenderer,
+            MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.otpEmailRenderer = otpEmailRenderer;
+        this.sendTimer = Timer.builder("twine.otp.email.send")
+                .description("Time spent handing OTP emails to the mail sender, per call")
+                .register(meterRegistry);
+        this.sentCounter = otpEmails(meterRegistry, "sent");
+        this.renderFailedCounter = otpEmails(meterRegistry, "render_failed");
+        this.sendFailedCounter = otpEmails(meterRegistry, "send_failed");
+    }
+
+    /**
+     * Sends an OTP email to the specified recipient.
+     *
+     * @param recipientEmail the recipient's email address
+     * @param otpValue       the OTP code to send
+     * @throws MessagingException if email sending fails
+     */
+    @Override
+    public void sendOtpEmail(String recipientEmail, String otpValue) throws MessagingException {
+        MimeMessage message;
+        try {
+            message = otpEmailRenderer.createOtpMessage(recipientEmail, otpValue);
+        } catch (MessagingException e) {
+            renderFailedCounter.increment();
+            throw e;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            mailSender.send(message);
+            sentCounter.increment();
+            log.info("OTP email sent successfully to: {}", recipientEmail);
+        } catch (MailException e) {
+            sendFailedCounter.increment();
+            throw new MessagingException("Failed to send OTP email: " + e.getMessage(), e);
+        } finally {
+            sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Renders every email and sends them in a single mail sender call.
+     *
+     * @param emails the emails to send
+     * @return the failure of every email that was not sent, keyed by the given
+     *         instances
+     */
+    @Override
+    public Map<OtpEmail, Exception> sendOtpEmails(List<OtpEmail> emails) {
+        Map<OtpEmail, Exception> failures = new IdentityHashMap<>();
+        Map<MimeMessage, OtpEmail> emailsByMessage = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(emails.size());
+        for (OtpEmail email : emails) {
+            try {
+                MimeMessage message = otpEmailRenderer.createOtpMessage(email.recipientEmail(), email.otpValue());
+                emailsByMessage.put(message, email);
+                messages.add(message);
+            } catch (MessagingException e) {
+                failures.put(email, e);
+            }
+        }
+        int renderFailures = failures.size();
+        renderFailedCounter.increment(renderFailures);
+        if (messages.isEmpty()) {
+            return failures;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            e.getFailedMessages().forEach((message, failure) -> failures.put(emailsByMessage.get(message), failure));
+            if (e.getFailedMessages().isEmpty()) {
+                emailsByMessage.values().forEach(email -> failures.put(email, e));
+            }
+        } catch (MailException e) {
+            emailsByMessage.values().forEach(email -> failures.put(email, e));
+        } finally {
+            sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        sendFailedCounter.increment(failures.size() - renderFailures);
+        sentCounter.increment(emails.size() - failures.size());
+        log.info("Sent {} of {} OTP email(s)", emails.size() - failures.size(), emails.size());
+        return failures;
+    }
+
+    // --- Private Helper Methods ---
+
+    private static Counter otpEmails(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("twine.otp.emails")
+                .description("OTP emails by delivery result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
\ No newline at end of file
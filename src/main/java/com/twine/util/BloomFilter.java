@@ -0,0 +1,152 @@
+package com.twine.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ * <p>
+ * Bits are kept in an {@link AtomicLongArray} so concurrent inserts and lookups
+ * need no locking. Membership answers are either "definitely absent" or
+ * "possibly present"; the false-positive rate stays close to the configured
+ * target as long as no more than the expected number of elements is inserted.
+ * </p>
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final long expectedInsertions;
+
+    private BloomFilter(long bitCount, int hashFunctions, long expectedInsertions) {
+        this.bits = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+        this.bitCount = bitCount;
+        this.hashFunctions = hashFunctions;
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * Creates a Bloom filter sized for the expected number of elements and the
+     * target false-positive probability.
+     *
+     * @param expectedInsertions the expected number of elements
+     * @param falsePositiveRate  the target false-positive probability
+     * @return an empty Bloom filter
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Expected insertions and false-positive rate must be positive");
+        }
+        long bitCount = Math.max(64, (long) Math.ceil(
+                -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        return new BloomFilter(bitCount, hashFunctions, expectedInsertions);
+    }
+
+    /**
+     * Adds an element to the filter.
+     *
+     * @param value the element to add
+     * @return true if at least one bit changed, i.e. the element was definitely
+     *         not present before
+     */
+    public boolean put(String value) {
+        long hash = hash(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ FNV_PRIME) | 1L;
+        boolean changed = false;
+        for (int i = 0; i < hashFunctions; i++) {
+            changed |= setBit(Math.floorMod(h1 + i * h2, bitCount));
+        }
+        return changed;
+    }
+
+    /**
+     * Checks whether an element may have been added to the filter.
+     *
+     * @param value the element to check
+     * @return false if the element was definitely never added, true if it
+     *         possibly was
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ FNV_PRIME) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            if (!getBit(Math.floorMod(h1 + i * h2, bitCount))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Estimates the current false-positive probability from the fraction of set
+     * bits.
+     *
+     * @return the estimated false-positive probability
+     */
+    public double expectedFalsePositiveRate() {
+        long setBits = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            setBits += Long.bitCount(bits.get(i));
+        }
+        return Math.pow((double) setBits / bitCount, hashFunctions);
+    }
+
+    /**
+     * Returns the number of elements the filter was sized for.
+     *
+     * @return the expected number of insertions
+     */
+    public long expectedInsertions() {
+        return expectedInsertions;
+    }
+
+    // --- Private Helper Methods ---
+
+    private boolean setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+        return true;
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the UTF-8 bytes of the value.
+     */
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * MurmurHash3 finalizer, used to derive two well-distributed hashes.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb93fe53ec94fL;
+        value ^= value >>> 33;
+        return value;
+    }
+}
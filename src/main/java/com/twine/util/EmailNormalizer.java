@@ -0,0 +1,23 @@
+package com.twine.util;
+
+import java.util.Locale;
+
+/**
+ * Canonical form of email addresses used for uniqueness checks.
+ */
+public final class EmailNormalizer {
+    private EmailNormalizer() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Normalizes an email address by trimming it and lower-casing it with the
+     * root locale, so addresses differing only by case compare equal.
+     *
+     * @param email the email address as entered
+     * @return the normalized email address, or null if the input is null
+     */
+    public static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
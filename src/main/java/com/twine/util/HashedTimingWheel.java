@@ -0,0 +1,200 @@
+package com.twine.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel for cheap, coarse-grained expiry of many items.
+ * <p>
+ * Time is divided into ticks; an item is hashed into the bucket of the first
+ * tick at or after its deadline, modulo the wheel size. Each bucket is a doubly
+ * linked list guarded by its own lock, so scheduling and cancelling are
+ * constant-time, and {@link #advance(long, Consumer)} only visits the buckets
+ * of the ticks that have passed, so the cost is independent of the number of
+ * pending items. Items whose deadline lies one or more full rotations ahead
+ * stay in place when their bucket comes round early. Expiry is accurate to one
+ * tick; callers that need exact deadlines should also check them on access.
+ * </p>
+ * <p>
+ * Callers that replace or drop items before their deadline should
+ * {@linkplain Timeout#cancel() cancel} the returned timeout, so the wheel only
+ * holds live items. Expiry callbacks run without any bucket lock held, so they
+ * may take locks under which timeouts are scheduled or cancelled.
+ * </p>
+ *
+ * @param <T> the type of scheduled items
+ */
+public final class HashedTimingWheel<T> {
+
+    private final Bucket<T>[] buckets;
+    private final long tickMillis;
+    private final int mask;
+    private final ReentrantLock advanceLock = new ReentrantLock();
+    private volatile long lastTick;
+
+    /**
+     * Creates a timing wheel.
+     *
+     * @param ticksPerWheel the number of buckets, rounded up to a power of two
+     * @param tickMillis    the duration of one tick in milliseconds
+     * @param nowMillis     the current time in milliseconds
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(int ticksPerWheel, long tickMillis, long nowMillis) {
+        if (ticksPerWheel <= 0 || tickMillis <= 0) {
+            throw new IllegalArgumentException("Ticks per wheel and tick duration must be positive");
+        }
+        int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.buckets = new Bucket[Math.max(size, 1)];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket<>();
+        }
+        this.tickMillis = tickMillis;
+        this.mask = buckets.length - 1;
+        this.lastTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * Schedules an item to expire at the given deadline.
+     *
+     * @param item           the item
+     * @param deadlineMillis the deadline in milliseconds
+     * @return the timeout, which can be cancelled until it expires
+     */
+    public Timeout<T> schedule(T item, long deadlineMillis) {
+        long deadlineTick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, lastTick + 1);
+        Timeout<T> timeout = new Timeout<>(item, deadlineMillis);
+        buckets[(int) (deadlineTick & mask)].add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Processes every tick up to the current time and hands each item whose
+     * deadline has passed to the callback. Must not be called concurrently.
+     *
+     * @param nowMillis the current time in milliseconds
+     * @param onExpired the callback for expired items
+     * @return the number of expired items
+     */
+    public int advance(long nowMillis, Consumer<T> onExpired) {
+        List<T> expired = new ArrayList<>();
+        advanceLock.lock();
+        try {
+            long currentTick = nowMillis / tickMillis;
+            long firstTick = Math.max(lastTick + 1, currentTick - mask);
+            for (long tick = firstTick; tick <= currentTick; tick++) {
+                buckets[(int) (tick & mask)].expire(nowMillis, expired);
+            }
+            lastTick = currentTick;
+        } finally {
+            advanceLock.unlock();
+        }
+        expired.forEach(onExpired);
+        return expired.size();
+    }
+
+    /**
+     * A scheduled item. Only linked into its bucket while pending.
+     *
+     * @param <T> the type of the item
+     */
+    public static final class Timeout<T> {
+        private final T item;
+        private final long deadlineMillis;
+        private volatile Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T item, long deadlineMillis) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        /**
+         * Removes the item from the wheel if it has not expired yet.
+         */
+        public void cancel() {
+            Bucket<T> owner = bucket;
+            if (owner != null) {
+                owner.remove(this);
+            }
+        }
+    }
+
+    /**
+     * The pending timeouts of one tick slot, as a doubly linked list.
+     * A lock rather than {@code synchronized} guards it, so a virtual thread
+     * scheduling or cancelling a timeout never pins its carrier.
+     */
+    private static final class Bucket<T> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            lock.lock();
+            try {
+                timeout.bucket = this;
+                timeout.prev = tail;
+                if (tail == null) {
+                    head = timeout;
+                } else {
+                    tail.next = timeout;
+                }
+                tail = timeout;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(Timeout<T> timeout) {
+            lock.lock();
+            try {
+                if (timeout.bucket == this) {
+                    unlink(timeout);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Unlinks the timeouts whose deadline has passed and collects their
+         * items; later rotations stay linked.
+         */
+        void expire(long nowMillis, List<T> expired) {
+            lock.lock();
+            try {
+                Timeout<T> timeout = head;
+                while (timeout != null) {
+                    Timeout<T> next = timeout.next;
+                    if (timeout.deadlineMillis <= nowMillis) {
+                        unlink(timeout);
+                        expired.add(timeout.item);
+                    }
+                    timeout = next;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void unlink(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+}
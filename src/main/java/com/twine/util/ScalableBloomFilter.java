@@ -0,0 +1,139 @@
+package com.twine.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe Bloom filter over strings that grows as elements are added.
+ * <p>
+ * Elements go into the newest {@link BloomFilter} slice; once it holds the
+ * number of elements it was sized for, a slice with twice the capacity and
+ * half the false-positive rate is appended. The compounded false-positive
+ * rate therefore stays below the configured target no matter how many
+ * elements are inserted, at the cost of probing every slice on lookup.
+ * </p>
+ */
+public final class ScalableBloomFilter {
+
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final double initialFalsePositiveRate;
+    private final AtomicLong size = new AtomicLong();
+    private volatile Slice[] slices;
+
+    private ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+        this.initialFalsePositiveRate = falsePositiveRate * (1 - TIGHTENING_RATIO);
+        this.slices = new Slice[] {new Slice(initialCapacity, initialFalsePositiveRate)};
+    }
+
+    /**
+     * Creates an empty scalable Bloom filter.
+     *
+     * @param initialCapacity   the number of elements the first slice is sized for
+     * @param falsePositiveRate the upper bound of the compounded false-positive
+     *                          probability
+     * @return an empty filter
+     */
+    public static ScalableBloomFilter create(long initialCapacity, double falsePositiveRate) {
+        if (initialCapacity <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Initial capacity and false-positive rate must be positive");
+        }
+        return new ScalableBloomFilter(initialCapacity, falsePositiveRate);
+    }
+
+    /**
+     * Adds an element to the filter, growing it when the newest slice is full.
+     *
+     * @param value the element to add
+     */
+    public void put(String value) {
+        if (mightContain(value)) {
+            return;
+        }
+        Slice slice = slices[slices.length - 1];
+        if (slice.filter.put(value)) {
+            size.incrementAndGet();
+            if (slice.count.incrementAndGet() >= slice.filter.expectedInsertions()) {
+                grow(slice);
+            }
+        }
+    }
+
+    /**
+     * Checks whether an element may have been added to the filter.
+     *
+     * @param value the element to check
+     * @return false if the element was definitely never added, true if it
+     *         possibly was
+     */
+    public boolean mightContain(String value) {
+        Slice[] current = slices;
+        for (int i = current.length - 1; i >= 0; i--) {
+            if (current[i].filter.mightContain(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Estimates the compounded false-positive probability over all slices.
+     *
+     * @return the estimated false-positive probability
+     */
+    public double expectedFalsePositiveRate() {
+        double trueNegative = 1;
+        for (Slice slice : slices) {
+            trueNegative *= 1 - slice.filter.expectedFalsePositiveRate();
+        }
+        return 1 - trueNegative;
+    }
+
+    /**
+     * Returns the approximate number of distinct elements added so far.
+     *
+     * @return the element count
+     */
+    public long size() {
+        return size.get();
+    }
+
+    /**
+     * Returns the number of slices the filter has grown to.
+     *
+     * @return the slice count
+     */
+    public int sliceCount() {
+        return slices.length;
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Appends a larger slice unless another thread already did so for the full
+     * slice.
+     */
+    private synchronized void grow(Slice full) {
+        Slice[] current = slices;
+        if (current[current.length - 1] != full) {
+            return;
+        }
+        Slice[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = new Slice(full.filter.expectedInsertions() * GROWTH_FACTOR,
+                initialFalsePositiveRate * Math.pow(TIGHTENING_RATIO, current.length));
+        slices = grown;
+    }
+
+    /**
+     * A fixed-size filter and the number of elements inserted into it.
+     */
+    private static final class Slice {
+        private final BloomFilter filter;
+        private final AtomicLong count = new AtomicLong();
+
+        private Slice(long capacity, double falsePositiveRate) {
+            this.filter = BloomFilter.create(capacity, falsePositiveRate);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.twine.reactive;
+
+import com.twine.config.MailConfig;
+import com.twine.config.ThymeleafConfig;
+import com.twine.controller.JwksController;
+import com.twine.mail.OtpEmailRenderer;
+import com.twine.security.JwtKeyRing;
+import com.twine.security.JwtService;
+import com.twine.security.PasswordHashingCalibrator;
+import com.twine.security.VerifiedTokenCache;
+import com.twine.service.impl.SmtpOtpEmailSenderImpl;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Entry point of the reactive variant of the Twine authentication API.
+ * <p>
+ * Serves the same {@code /api/v1/auth} contract as {@link com.twine.TwineApplication}
+ * on WebFlux and R2DBC, so each open connection costs a few objects on an
+ * event loop instead of a request thread. Only this package is scanned; the
+ * JWT, password hashing and mail beans of the servlet application are
+ * imported as they are, and JDBC/JPA auto-configuration is switched off. The
+ * {@code reactive} profile is always active and binds
+ * {@code application-reactive.yml}.
+ * </p>
+ */
+@SpringBootApplication(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        UserDetailsServiceAutoConfiguration.class,
+        ReactiveUserDetailsServiceAutoConfiguration.class
+})
+@EnableScheduling
+@Import({
+        JwtKeyRing.class,
+        VerifiedTokenCache.class,
+        JwtService.class,
+        PasswordHashingCalibrator.class,
+        MailConfig.class,
+        ThymeleafConfig.class,
+        OtpEmailRenderer.class,
+        SmtpOtpEmailSenderImpl.class,
+        JwksController.class
+})
+public class TwineReactiveApplication {
+
+    static final String REACTIVE_PROFILE = "reactive";
+
+    /**
+     * Starts the reactive Twine application on Netty.
+     *
+     * @param args command-line arguments passed to the application
+     */
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(TwineReactiveApplication.class);
+        application.setWebApplicationType(WebApplicationType.REACTIVE);
+        application.setAdditionalProfiles(REACTIVE_PROFILE);
+        application.run(args);
+    }
+}
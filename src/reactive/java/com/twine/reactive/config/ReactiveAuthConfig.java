@@ -0,0 +1,79 @@
+package com.twine.reactive.config;
+
+import com.twine.constants.AuthConstants;
+import com.twine.reactive.entity.AuthUser;
+import com.twine.reactive.repository.AuthUserRepository;
+import com.twine.security.AuthPrincipal;
+import com.twine.security.PasswordHashingCalibrator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsPasswordService;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Authentication beans of the reactive application.
+ * <p>
+ * Password hashing never runs on the event loop: it is offloaded to a
+ * dedicated bounded scheduler sized like the servlet application's
+ * {@link com.twine.security.PasswordHashingExecutor}, which rejects work once
+ * its queue is full. The password encoder is the same calibrated
+ * {@link PasswordHashingCalibrator} encoder, and stored hashes are upgraded on
+ * login through the {@link ReactiveUserDetailsPasswordService}.
+ * </p>
+ */
+@Slf4j
+@Configuration
+public class ReactiveAuthConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordHashingScheduler(
+            @Value("${" + AuthConstants.PASSWORD_HASHING_THREADS_PROPERTY + ":0}") int threads,
+            @Value("${" + AuthConstants.PASSWORD_HASHING_QUEUE_CAPACITY_PROPERTY + ":64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        log.info("Password hashing scheduler started with {} thread(s) and queue capacity {}",
+                poolSize, queueCapacity);
+        return Schedulers.newBoundedElastic(poolSize, queueCapacity, "password-hash", 60, true);
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingCalibrator passwordHashingCalibrator) {
+        return passwordHashingCalibrator.createPasswordEncoder();
+    }
+
+    @Bean
+    public ReactiveUserDetailsService reactiveUserDetailsService(AuthUserRepository authUserRepository) {
+        return username -> authUserRepository.findByEmail(username)
+                .map(AuthUser::toPrincipal);
+    }
+
+    @Bean
+    public ReactiveUserDetailsPasswordService reactiveUserDetailsPasswordService(
+            AuthUserRepository authUserRepository) {
+        return (user, newPassword) -> {
+            AuthPrincipal principal = (AuthPrincipal) user;
+            return authUserRepository.updatePassword(principal.id(), newPassword)
+                    .thenReturn(principal.withPassword(newPassword));
+        };
+    }
+
+    @Bean
+    public ReactiveAuthenticationManager reactiveAuthenticationManager(
+            ReactiveUserDetailsService reactiveUserDetailsService,
+            ReactiveUserDetailsPasswordService reactiveUserDetailsPasswordService,
+            PasswordEncoder passwordEncoder,
+            Scheduler passwordHashingScheduler) {
+        UserDetailsRepositoryReactiveAuthenticationManager authenticationManager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(reactiveUserDetailsService);
+        authenticationManager.setPasswordEncoder(passwordEncoder);
+        authenticationManager.setUserDetailsPasswordService(reactiveUserDetailsPasswordService);
+        authenticationManager.setScheduler(passwordHashingScheduler);
+        return authenticationManager;
+    }
+}
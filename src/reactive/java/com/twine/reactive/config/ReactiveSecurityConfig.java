@@ -0,0 +1,59 @@
+package com.twine.reactive.config;
+
+import com.twine.constants.AuthConstants;
+import com.twine.reactive.security.ReactiveJwtAuthenticationFilter;
+import com.twine.reactive.security.ReactiveTokenRevocationService;
+import com.twine.reactive.security.ReactiveTokenVersionRegistry;
+import com.twine.security.JwtService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * Security configuration of the reactive application: the same authorization
+ * rules as {@link com.twine.config.SecurityConfig}, stateless, with the
+ * {@link ReactiveJwtAuthenticationFilter} in the authentication slot.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+    private final JwtService jwtService;
+    private final ReactiveTokenVersionRegistry tokenVersionRegistry;
+    private final ReactiveTokenRevocationService tokenRevocationService;
+
+    /**
+     * Configures the security filter chain, including endpoint authorization and
+     * JWT authentication.
+     *
+     * @param http the ServerHttpSecurity configuration
+     * @return the configured SecurityWebFilterChain bean
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN)))
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers("/api/v1/auth/logout", "/api/v1/auth/logout/all").authenticated()
+                        .pathMatchers("/api/v1/auth/**").permitAll()
+                        .pathMatchers(AuthConstants.JWKS_PATH).permitAll()
+                        .anyExchange().authenticated())
+                .addFilterAt(new ReactiveJwtAuthenticationFilter(jwtService, tokenVersionRegistry,
+                        tokenRevocationService), SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.twine.reactive.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Web server of the reactive application. Tomcat is on the classpath for the
+ * servlet application and would otherwise be picked first, so Netty is
+ * declared explicitly.
+ */
+@Configuration
+public class ReactiveServerConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,142 @@
+package com.twine.reactive.controller;
+
+import com.twine.dto.AuthenticationRequest;
+import com.twine.dto.AuthenticationResponse;
+import com.twine.dto.InitiateRegistrationRequest;
+import com.twine.dto.InitiateRegistrationResponse;
+import com.twine.dto.LogoutRequest;
+import com.twine.dto.RefreshTokenRequest;
+import com.twine.dto.RegisterRequest;
+import com.twine.reactive.service.IReactiveAuthenticationService;
+import com.twine.security.VerifiedToken;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Reactive counterpart of {@link com.twine.controller.AuthenticationController},
+ * serving the same endpoints, request and response bodies and status codes.
+ */
+@RestController
+@RequestMapping("/api/v1/auth")
+@RequiredArgsConstructor
+public class ReactiveAuthenticationController {
+
+    private final IReactiveAuthenticationService authenticationService;
+
+    /**
+     * Initiates the user registration process by sending an OTP to the user's
+     * email.
+     * <p>
+     * Endpoint: <b>POST /api/v1/auth/register/initiate</b><br>
+     * Response: 200 OK with {@link InitiateRegistrationResponse}
+     * </p>
+     *
+     * @param request the registration initiation request containing the user's
+     *                email
+     * @return 200 OK with the OTP resend information
+     */
+    @PostMapping("/register/initiate")
+    public Mono<ResponseEntity<InitiateRegistrationResponse>> initiateRegistration(
+            @Valid @RequestBody InitiateRegistrationRequest request) {
+        return authenticationService.initiateRegistration(request).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Completes the user registration process by validating the OTP and creating
+     * the user account.
+     * <p>
+     * Endpoint: <b>POST /api/v1/auth/register/complete</b><br>
+     * Response: 200 OK with {@link AuthenticationResponse}
+     * </p>
+     *
+     * @param request the registration completion request with user details and OTP
+     * @return 200 OK with authentication response containing the JWT token
+     */
+    @PostMapping("/register/complete")
+    public Mono<ResponseEntity<AuthenticationResponse>> completeRegistration(
+            @Valid @RequestBody RegisterRequest request) {
+        return authenticationService.completeRegistration(request).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Authenticates a user using email and password credentials.
+     * <p>
+     * Endpoint: <b>POST /api/v1/auth/login</b><br>
+     * Response: 200 OK with {@link AuthenticationResponse}
+     * </p>
+     *
+     * @param request the authentication request with email and password
+     * @return 200 OK with authentication response containing the JWT token
+     */
+    @PostMapping("/login")
+    public Mono<ResponseEntity<AuthenticationResponse>> authenticate(
+            @Valid @RequestBody AuthenticationRequest request) {
+        return authenticationService.authenticate(request).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a rotated refresh
+     * token.
+     * <p>
+     * Endpoint: <b>POST /api/v1/auth/refresh</b><br>
+     * Response: 200 OK with {@link AuthenticationResponse}
+     * </p>
+     *
+     * @param request the refresh request containing the current refresh token
+     * @return 200 OK with authentication response containing the new token pair
+     */
+    @PostMapping("/refresh")
+    public Mono<ResponseEntity<AuthenticationResponse>> refresh(
+            @Valid @RequestBody RefreshTokenRequest request) {
+        return authenticationService.refresh(request).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Logs out the current session by revoking its access token and, if given,
+     * its refresh token.
+     * <p>
+     * Endpoint: <b>POST /api/v1/auth/logout</b> (requires a bearer token)<br>
+     * Response: 200 OK (no content)
+     * </p>
+     *
+     * @param token   the verified access token of the current request
+     * @param request the optional logout request with the session refresh token
+     * @return 200 OK once the session is revoked
+     */
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<Void>> logout(
+            @AuthenticationPrincipal VerifiedToken token,
+            @RequestBody(required = false) Mono<LogoutRequest> request) {
+        return request.map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(body -> authenticationService.logout(token, body.orElse(null)))
+                .thenReturn(ResponseEntity.ok().build());
+    }
+
+    /**
+     * Logs out every session of the current user by invalidating all access and
+     * refresh tokens issued so far.
+     * <p>
+     * Endpoint: <b>POST /api/v1/auth/logout/all</b> (requires a bearer token)<br>
+     * Response: 200 OK (no content)
+     * </p>
+     *
+     * @param token the verified access token of the current request
+     * @return 200 OK once all sessions are revoked
+     */
+    @PostMapping("/logout/all")
+    public Mono<ResponseEntity<Void>> logoutAll(@AuthenticationPrincipal VerifiedToken token) {
+        return authenticationService.logoutAll(token)
+                .thenReturn(ResponseEntity.ok().build());
+    }
+}
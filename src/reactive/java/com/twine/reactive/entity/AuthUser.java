@@ -0,0 +1,48 @@
+package com.twine.reactive.entity;
+
+import com.twine.entity.Role;
+import com.twine.security.AuthPrincipal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * R2DBC mapping of the {@code auth_users} table owned by
+ * {@link com.twine.entity.AuthUser}. There are no entity listeners here, so
+ * {@link #emailNormalized} must be set by the caller on every write.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("auth_users")
+public class AuthUser {
+    @Id
+    private Long id;
+
+    private String email;
+
+    private String emailNormalized;
+
+    private String password;
+
+    private Role role;
+
+    @Builder.Default
+    private boolean enabled = true;
+
+    @Builder.Default
+    private int tokenVersion = 0;
+
+    /**
+     * Creates a principal snapshot of this user.
+     *
+     * @return the principal
+     */
+    public AuthPrincipal toPrincipal() {
+        return new AuthPrincipal(id, email, password, role, enabled, tokenVersion);
+    }
+}
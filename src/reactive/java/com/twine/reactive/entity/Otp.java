@@ -0,0 +1,36 @@
+package com.twine.reactive.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC mapping of the {@code otp_records} table owned by
+ * {@link com.twine.entity.Otp}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("otp_records")
+public class Otp {
+    @Id
+    private Long id;
+
+    private String email;
+
+    private String otpCode;
+
+    private LocalDateTime expiryTime;
+
+    private boolean used;
+
+    private int failedAttempts;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,38 @@
+package com.twine.reactive.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC mapping of the {@code refresh_tokens} table owned by
+ * {@link com.twine.entity.RefreshToken}. The user is referenced by id only.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("refresh_tokens")
+public class RefreshToken {
+    @Id
+    private Long id;
+
+    private String tokenHash;
+
+    private Long userId;
+
+    private String familyId;
+
+    private int tokenVersion;
+
+    private LocalDateTime expiresAt;
+
+    private boolean revoked;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,28 @@
+package com.twine.reactive.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC mapping of the {@code revoked_tokens} table owned by
+ * {@link com.twine.entity.RevokedToken}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("revoked_tokens")
+public class RevokedToken {
+    @Id
+    private String jti;
+
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime revokedAt;
+}
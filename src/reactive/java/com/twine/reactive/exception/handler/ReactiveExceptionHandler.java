@@ -0,0 +1,116 @@
+package com.twine.reactive.exception.handler;
+
+import com.twine.dto.ErrorResponse;
+import com.twine.exception.BaseException;
+import com.twine.exception.TooManyRequestsException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reactive counterpart of {@link com.twine.exception.handler.GlobalExceptionHandler},
+ * producing the same error bodies and status codes. The reported path includes
+ * the {@code spring.webflux.base-path}, like the servlet request URI includes
+ * the context path.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    /**
+     * Handles custom BaseException and returns a structured error response.
+     *
+     * @param ex       the BaseException thrown
+     * @param exchange the current server exchange
+     * @return a ResponseEntity containing the error response and status
+     */
+    @ExceptionHandler(BaseException.class)
+    public ResponseEntity<ErrorResponse> handleBaseException(BaseException ex, ServerWebExchange exchange) {
+        return new ResponseEntity<>(errorResponse(ex.getStatus(), ex.getMessage(), exchange), ex.getStatus());
+    }
+
+    /**
+     * Handles rejected requests due to overload and tells the client when to
+     * retry.
+     *
+     * @param ex       the TooManyRequestsException thrown
+     * @param exchange the current server exchange
+     * @return a ResponseEntity containing the error response, 429 status and a
+     *         Retry-After header
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException ex,
+            ServerWebExchange exchange) {
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse(ex.getStatus(), ex.getMessage(), exchange));
+    }
+
+    /**
+     * Handles authentication failures due to bad credentials.
+     *
+     * @param ex       the BadCredentialsException thrown
+     * @param exchange the current server exchange
+     * @return a ResponseEntity containing the error response and 401 status
+     */
+    @ExceptionHandler(BadCredentialsException.class)
+    public ResponseEntity<ErrorResponse> handleBadCredentialsException(BadCredentialsException ex,
+            ServerWebExchange exchange) {
+        return new ResponseEntity<>(errorResponse(HttpStatus.UNAUTHORIZED, "Invalid email or password", exchange),
+                HttpStatus.UNAUTHORIZED);
+    }
+
+    /**
+     * Handles validation errors of request bodies and returns a map of field
+     * errors.
+     *
+     * @param ex the WebExchangeBindException thrown
+     * @return a ResponseEntity containing a map of field names to error messages
+     *         and 400 status
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, String>> handleValidationExceptions(WebExchangeBindException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach((error) -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+        return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles all uncaught exceptions and returns a generic error response.
+     *
+     * @param ex       the Exception thrown
+     * @param exchange the current server exchange
+     * @return a ResponseEntity containing the error response and 500 status
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex, ServerWebExchange exchange) {
+        return new ResponseEntity<>(errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred",
+                exchange), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    // --- Private Helper Methods ---
+
+    private ErrorResponse errorResponse(HttpStatus status, String message, ServerWebExchange exchange) {
+        return ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(exchange.getRequest().getPath().value())
+                .build();
+    }
+}
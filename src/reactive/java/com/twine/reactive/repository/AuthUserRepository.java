@@ -0,0 +1,58 @@
+package com.twine.reactive.repository;
+
+import com.twine.reactive.entity.AuthUser;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository for the {@code auth_users} table.
+ */
+public interface AuthUserRepository extends ReactiveCrudRepository<AuthUser, Long> {
+    /**
+     * Finds a user by their email address.
+     *
+     * @param email the user's email address
+     * @return the user, or empty if none exists
+     */
+    Mono<AuthUser> findByEmail(String email);
+
+    /**
+     * Checks if a user exists with the given normalized email address, using
+     * the unique index on {@code email_normalized}.
+     *
+     * @param emailNormalized the trimmed, lower-cased email address
+     * @return true if a user exists, false otherwise
+     */
+    Mono<Boolean> existsByEmailNormalized(String emailNormalized);
+
+    /**
+     * Lists every user whose tokens have been invalidated at least once.
+     *
+     * @param tokenVersion the exclusive lower bound of the token version, normally 0
+     * @return the users
+     */
+    Flux<AuthUser> findByTokenVersionGreaterThan(int tokenVersion);
+
+    /**
+     * Increments the token version of a user in a single statement.
+     *
+     * @param id the user id
+     * @return the new token version, or empty if the user does not exist
+     */
+    @Query("update auth_users set token_version = token_version + 1 where id = :id returning token_version")
+    Mono<Integer> incrementTokenVersion(Long id);
+
+    /**
+     * Replaces the password hash of a user by id, for hash upgrades on login.
+     *
+     * @param id       the user id
+     * @param password the new password hash
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query("update auth_users set password = :password where id = :id")
+    Mono<Integer> updatePassword(Long id, String password);
+}
@@ -0,0 +1,51 @@
+package com.twine.reactive.repository;
+
+import com.twine.reactive.entity.Otp;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive repository for the {@code otp_records} table.
+ */
+public interface OtpRepository extends ReactiveCrudRepository<Otp, Long> {
+    /**
+     * Finds the latest OTP issued to the given email, used or not. Limited to one
+     * row and served by the {@code (email, expiry_time)} index.
+     *
+     * @param email the recipient's email address
+     * @return the latest OTP, or empty if none exists
+     */
+    Mono<Otp> findFirstByEmailOrderByExpiryTimeDesc(String email);
+
+    /**
+     * Verifies a code against the latest OTP issued to the email in a single
+     * statement, exactly like
+     * {@link com.twine.repository.OtpRepository#verifyLatest}: a matching,
+     * unexpired code is marked as used, a wrong code increments the
+     * failed-attempt counter and marks the OTP as used once the counter reaches
+     * {@code maxAttempts}.
+     *
+     * @param email       the recipient's email address
+     * @param otpCode     the OTP code presented by the user
+     * @param now         the reference time for expiry
+     * @param maxAttempts the number of wrong codes after which the OTP is invalidated
+     * @return the updated OTP, or empty if the latest OTP was already used or none exists
+     */
+    @Query("""
+            update otp_records o
+               set used = case when o.otp_code = :otpCode then o.expiry_time > :now
+                               else o.failed_attempts + 1 >= :maxAttempts end,
+                   failed_attempts = o.failed_attempts
+                           + case when o.otp_code = :otpCode then 0 else 1 end
+             where o.id = (select id from otp_records
+                            where email = :email
+                            order by expiry_time desc
+                            limit 1)
+               and o.used = false
+            returning o.*
+            """)
+    Mono<Otp> verifyLatest(String email, String otpCode, LocalDateTime now, int maxAttempts);
+}
@@ -0,0 +1,50 @@
+package com.twine.reactive.repository;
+
+import com.twine.reactive.entity.RefreshToken;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository for the {@code refresh_tokens} table.
+ */
+public interface RefreshTokenRepository extends ReactiveCrudRepository<RefreshToken, Long> {
+    /**
+     * Finds a refresh token by its hash.
+     *
+     * @param tokenHash the SHA-256 hash of the raw refresh token
+     * @return the refresh token, or empty if none exists
+     */
+    Mono<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Revokes a single refresh token if it has not been revoked yet.
+     *
+     * @param id the refresh token id
+     * @return 1 if this call revoked the token, 0 if it was already revoked
+     */
+    @Modifying
+    @Query("update refresh_tokens set revoked = true where id = :id and revoked = false")
+    Mono<Integer> revokeIfActive(Long id);
+
+    /**
+     * Revokes every active refresh token of a token family.
+     *
+     * @param familyId the family id
+     * @return the number of revoked tokens
+     */
+    @Modifying
+    @Query("update refresh_tokens set revoked = true where family_id = :familyId and revoked = false")
+    Mono<Integer> revokeFamily(String familyId);
+
+    /**
+     * Revokes every active refresh token of a user.
+     *
+     * @param userId the user id
+     * @return the number of revoked tokens
+     */
+    @Modifying
+    @Query("update refresh_tokens set revoked = true where user_id = :userId and revoked = false")
+    Mono<Integer> revokeAllForUser(Long userId);
+}
@@ -0,0 +1,70 @@
+package com.twine.reactive.repository;
+
+import com.twine.reactive.entity.RevokedToken;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive repository for the {@code revoked_tokens} table. Rows are keyed by the assigned
+ * {@code jti}, so they are written with an explicit insert rather than
+ * {@code save}.
+ */
+public interface RevokedTokenRepository extends Repository<RevokedToken, String> {
+    /**
+     * Stores a revocation; revoking the same token twice is a no-op.
+     *
+     * @param jti       the token id
+     * @param expiresAt the token's expiry
+     * @param revokedAt the revocation time
+     * @return the number of inserted rows
+     */
+    @Modifying
+    @Query("""
+            insert into revoked_tokens (jti, expires_at, revoked_at)
+            values (:jti, :expiresAt, :revokedAt)
+            on conflict (jti) do nothing
+            """)
+    Mono<Integer> insert(String jti, LocalDateTime expiresAt, LocalDateTime revokedAt);
+
+    /**
+     * Checks whether a token has been revoked.
+     *
+     * @param jti the token id
+     * @return true if the token is revoked
+     */
+    @Query("select exists (select 1 from revoked_tokens where jti = :jti)")
+    Mono<Boolean> existsByJti(String jti);
+
+    /**
+     * Lists the ids of tokens revoked since the given instant.
+     *
+     * @param since the lower bound of the revocation time (inclusive)
+     * @return the revoked token ids
+     */
+    @Query("select jti from revoked_tokens where revoked_at >= :since")
+    Flux<String> findJtisRevokedSince(LocalDateTime since);
+
+    /**
+     * Lists the ids of revoked tokens that have not expired yet.
+     *
+     * @param now the current time
+     * @return the revoked token ids
+     */
+    @Query("select jti from revoked_tokens where expires_at > :now")
+    Flux<String> findActiveJtis(LocalDateTime now);
+
+    /**
+     * Deletes revocations of tokens that have expired on their own.
+     *
+     * @param now the current time
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query("delete from revoked_tokens where expires_at <= :now")
+    Mono<Integer> deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,108 @@
+package com.twine.reactive.security;
+
+import com.twine.constants.AuthConstants;
+import com.twine.entity.Role;
+import com.twine.security.JwtService;
+import com.twine.security.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Reactive counterpart of {@link com.twine.security.JwtAuthenticationFilter}.
+ * <p>
+ * The authentication is built from the verified token claims alone and put in
+ * the Reactor context of the rest of the chain. Signature checks and the token
+ * version check are CPU-only and run inline on the event loop; only a Bloom
+ * positive in the revocation check goes to the database, without blocking.
+ * Registered in the security chain by
+ * {@link com.twine.reactive.config.ReactiveSecurityConfig} rather than as a
+ * bean, so it is not also added to the plain WebFlux filter chain.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private static final Map<String, List<GrantedAuthority>> AUTHORITIES_BY_ROLE = Arrays.stream(Role.values())
+            .collect(Collectors.toUnmodifiableMap(Role::name,
+                    role -> List.of(new SimpleGrantedAuthority(role.name()))));
+
+    private final JwtService jwtService;
+    private final ReactiveTokenVersionRegistry tokenVersionRegistry;
+    private final ReactiveTokenRevocationService tokenRevocationService;
+
+    /**
+     * Authenticates the request from its bearer token, if it carries an
+     * acceptable one, and continues the chain.
+     *
+     * @param exchange the current server exchange
+     * @param chain    the filter chain
+     * @return completes when the request has been handled
+     */
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        final String authHeader = exchange.getRequest().getHeaders().getFirst(AuthConstants.AUTHORIZATION_HEADER);
+        if (authHeader == null || !authHeader.startsWith(AuthConstants.BEARER_PREFIX)) {
+            return chain.filter(exchange);
+        }
+
+        final VerifiedToken token;
+        try {
+            token = jwtService.verifyToken(authHeader.substring(AuthConstants.BEARER_PREFIX.length()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return chain.filter(exchange);
+        }
+        if (!hasCurrentClaims(token)) {
+            return chain.filter(exchange);
+        }
+
+        return isRevoked(token).flatMap(revoked -> {
+            if (revoked) {
+                return chain.filter(exchange);
+            }
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    token,
+                    null,
+                    AUTHORITIES_BY_ROLE.get(token.getRole()));
+            return chain.filter(exchange)
+                    .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authToken));
+        });
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Checks that the token carries the claims needed to authenticate without a
+     * user lookup and that its version has not been invalidated.
+     *
+     * @param token the verified token
+     * @return true if the token may be used to authenticate, pending the revocation check
+     */
+    private boolean hasCurrentClaims(VerifiedToken token) {
+        Long userId = token.getUserId();
+        Integer tokenVersion = token.getTokenVersion();
+        return token.getSubject() != null
+                && userId != null
+                && tokenVersion != null
+                && AUTHORITIES_BY_ROLE.containsKey(token.getRole())
+                && tokenVersionRegistry.isCurrent(userId, tokenVersion);
+    }
+
+    private Mono<Boolean> isRevoked(VerifiedToken token) {
+        return token.getJti() == null ? Mono.just(false) : tokenRevocationService.isRevoked(token.getJti());
+    }
+}
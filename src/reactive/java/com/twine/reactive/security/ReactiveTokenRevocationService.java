@@ -0,0 +1,161 @@
+package com.twine.reactive.security;
+
+import com.twine.constants.AuthConstants;
+import com.twine.reactive.repository.RevokedTokenRepository;
+import com.twine.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+
+/**
+ * Reactive counterpart of {@link com.twine.security.TokenRevocationService}.
+ * <p>
+ * The same {@link BloomFilter} answers the common "not revoked" case in
+ * memory; only Bloom positives issue a primary-key lookup, and that lookup
+ * does not hold a thread while it waits. The filter is synced and rebuilt on
+ * the same schedule, overlap and meters as in the servlet application.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ReactiveTokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration syncOverlap;
+    private final Counter negativeLookups;
+    private final Counter revokedLookups;
+    private final Counter falsePositiveLookups;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile LocalDateTime lastSync = LocalDateTime.now();
+    private volatile Set<String> lastSyncedJtis = Set.of();
+
+    public ReactiveTokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${" + AuthConstants.JWT_REVOCATION_EXPECTED_INSERTIONS_PROPERTY + ":100000}") long expectedInsertions,
+            @Value("${" + AuthConstants.JWT_REVOCATION_FALSE_POSITIVE_RATE_PROPERTY + ":0.01}") double falsePositiveRate,
+            @Value("${" + AuthConstants.JWT_REVOCATION_SYNC_OVERLAP_PROPERTY + ":${"
+                    + AuthConstants.JWT_REVOCATION_SYNC_INTERVAL_PROPERTY + ":10000}}") long syncOverlapMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncOverlap = Duration.ofMillis(syncOverlapMillis);
+        this.bloomFilter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        this.negativeLookups = revocationLookups(meterRegistry, "negative");
+        this.revokedLookups = revocationLookups(meterRegistry, "revoked");
+        this.falsePositiveLookups = revocationLookups(meterRegistry, "false_positive");
+    }
+
+    /**
+     * Revokes an access token until its natural expiry.
+     *
+     * @param jti       the token id
+     * @param expiresAt the token's expiry
+     * @return completes once the revocation is stored
+     */
+    public Mono<Void> revoke(String jti, Instant expiresAt) {
+        return revokedTokenRepository.insert(jti, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()),
+                        LocalDateTime.now())
+                .doOnSuccess(inserted -> {
+                    bloomFilter.put(jti);
+                    log.info("Access token {} revoked", jti);
+                })
+                .then();
+    }
+
+    /**
+     * Checks whether an access token has been revoked.
+     *
+     * @param jti the token id
+     * @return true if the token is revoked
+     */
+    public Mono<Boolean> isRevoked(String jti) {
+        if (!bloomFilter.mightContain(jti)) {
+            negativeLookups.increment();
+            return Mono.just(false);
+        }
+        return revokedTokenRepository.existsByJti(jti)
+                .doOnNext(revoked -> (revoked ? revokedLookups : falsePositiveLookups).increment());
+    }
+
+    /**
+     * Adds tokens revoked since the last sync, including those revoked on other
+     * nodes, to the Bloom filter, skipping those the previous sync added.
+     *
+     * @return completes once the filter is up to date
+     */
+    @Scheduled(fixedDelayString = "${" + AuthConstants.JWT_REVOCATION_SYNC_INTERVAL_PROPERTY + ":10000}",
+            initialDelayString = "${" + AuthConstants.JWT_REVOCATION_SYNC_INTERVAL_PROPERTY + ":10000}")
+    public Mono<Void> sync() {
+        return Mono.defer(() -> {
+            LocalDateTime syncStart = LocalDateTime.now();
+            BloomFilter filter = bloomFilter;
+            Set<String> previouslySynced = lastSyncedJtis;
+            return revokedTokenRepository.findJtisRevokedSince(lastSync.minus(syncOverlap))
+                    .doOnNext(jti -> {
+                        if (!previouslySynced.contains(jti)) {
+                            filter.put(jti);
+                        }
+                    })
+                    .collectList()
+                    .doOnNext(jtis -> {
+                        lastSyncedJtis = Set.copyOf(jtis);
+                        lastSync = syncStart;
+                    })
+                    .then();
+        });
+    }
+
+    /**
+     * Purges expired revocations and rebuilds the Bloom filter from the remaining
+     * ones, sized for at least twice the current number of entries.
+     *
+     * @return completes once the new filter is in place
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${" + AuthConstants.JWT_REVOCATION_REBUILD_INTERVAL_PROPERTY + ":3600000}",
+            initialDelayString = "${" + AuthConstants.JWT_REVOCATION_REBUILD_INTERVAL_PROPERTY + ":3600000}")
+    public Mono<Void> rebuild() {
+        return Mono.defer(() -> {
+            LocalDateTime rebuildStart = LocalDateTime.now();
+            return revokedTokenRepository.deleteExpired(rebuildStart)
+                    .zipWith(revokedTokenRepository.findActiveJtis(rebuildStart).collectList())
+                    .flatMap(result -> {
+                        BloomFilter rebuilt = BloomFilter.create(
+                                Math.max(expectedInsertions, 2L * result.getT2().size()), falsePositiveRate);
+                        result.getT2().forEach(rebuilt::put);
+                        bloomFilter = rebuilt;
+                        lastSyncedJtis = Set.of();
+                        lastSync = rebuildStart;
+                        log.info("Revocation Bloom filter rebuilt with {} active revocation(s); purged {} expired",
+                                result.getT2().size(), result.getT1());
+                        return sync();
+                    });
+        });
+    }
+
+    // --- Private Helper Methods ---
+
+    private static Counter revocationLookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("twine.jwt.revocation.lookups")
+                .description("Revocation checks by outcome; false_positive means the Bloom filter "
+                        + "matched but the token was not revoked")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
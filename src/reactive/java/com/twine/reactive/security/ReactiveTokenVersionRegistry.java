@@ -0,0 +1,71 @@
+package com.twine.reactive.security;
+
+import com.twine.constants.AuthConstants;
+import com.twine.constants.ErrorConstants;
+import com.twine.exception.ResourceNotFoundException;
+import com.twine.reactive.repository.AuthUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reactive counterpart of {@link com.twine.security.TokenVersionRegistry}: an
+ * in-memory view of the token versions of users whose tokens were invalidated,
+ * so checking a token never waits on the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveTokenVersionRegistry {
+
+    private final AuthUserRepository authUserRepository;
+    private final Map<Long, Integer> currentVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Checks whether a token version is still current for the given user.
+     *
+     * @param userId       the user id carried by the token
+     * @param tokenVersion the token version carried by the token
+     * @return true if the token was issued at or after the user's current version
+     */
+    public boolean isCurrent(long userId, int tokenVersion) {
+        return tokenVersion >= currentVersions.getOrDefault(userId, 0);
+    }
+
+    /**
+     * Invalidates every token issued to the user so far by incrementing the
+     * user's token version.
+     *
+     * @param userId the user whose tokens should be invalidated
+     * @return the new token version
+     */
+    public Mono<Integer> invalidateTokens(Long userId) {
+        return authUserRepository.incrementTokenVersion(userId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(ErrorConstants.USER_NOT_FOUND)))
+                .doOnNext(tokenVersion -> {
+                    currentVersions.merge(userId, tokenVersion, Math::max);
+                    log.info("Token version bumped to {} for user id: {}", tokenVersion, userId);
+                });
+    }
+
+    /**
+     * Reloads the token versions of all users whose tokens were invalidated.
+     *
+     * @return completes once the view is refreshed
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${" + AuthConstants.JWT_TOKEN_VERSION_REFRESH_PROPERTY + ":30000}",
+            initialDelayString = "${" + AuthConstants.JWT_TOKEN_VERSION_REFRESH_PROPERTY + ":30000}")
+    public Mono<Void> refresh() {
+        return authUserRepository.findByTokenVersionGreaterThan(0)
+                .doOnNext(authUser -> currentVersions.merge(authUser.getId(), authUser.getTokenVersion(), Math::max))
+                .then();
+    }
+}
@@ -0,0 +1,69 @@
+package com.twine.reactive.service;
+
+import com.twine.dto.AuthenticationRequest;
+import com.twine.dto.AuthenticationResponse;
+import com.twine.dto.InitiateRegistrationRequest;
+import com.twine.dto.InitiateRegistrationResponse;
+import com.twine.dto.LogoutRequest;
+import com.twine.dto.RefreshTokenRequest;
+import com.twine.dto.RegisterRequest;
+import com.twine.security.VerifiedToken;
+import com.twine.service.IAuthenticationService;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link IAuthenticationService}.
+ */
+public interface IReactiveAuthenticationService {
+    /**
+     * Initiates the registration process by sending an OTP to the email.
+     *
+     * @param request the registration initiation request
+     * @return whether a new OTP was sent and when another may be requested
+     */
+    Mono<InitiateRegistrationResponse> initiateRegistration(InitiateRegistrationRequest request);
+
+    /**
+     * Completes the registration process by validating the OTP and creating the
+     * user.
+     *
+     * @param request the registration completion request
+     * @return the authentication response after successful registration
+     */
+    Mono<AuthenticationResponse> completeRegistration(RegisterRequest request);
+
+    /**
+     * Authenticates a user with email and password.
+     *
+     * @param request the authentication request
+     * @return the authentication response after successful authentication
+     */
+    Mono<AuthenticationResponse> authenticate(AuthenticationRequest request);
+
+    /**
+     * Exchanges a refresh token for a new access token and a rotated refresh
+     * token.
+     *
+     * @param request the refresh token request
+     * @return the authentication response with the new token pair
+     */
+    Mono<AuthenticationResponse> refresh(RefreshTokenRequest request);
+
+    /**
+     * Revokes the current access token and, if given, the refresh token family
+     * of the session.
+     *
+     * @param token   the verified access token of the current request
+     * @param request the logout request, or null
+     * @return completes once the session is revoked
+     */
+    Mono<Void> logout(VerifiedToken token, LogoutRequest request);
+
+    /**
+     * Revokes every session of the user.
+     *
+     * @param token the verified access token of the current request
+     * @return completes once all sessions are revoked
+     */
+    Mono<Void> logoutAll(VerifiedToken token);
+}
@@ -0,0 +1,27 @@
+package com.twine.reactive.service;
+
+import com.twine.service.IOtpService;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link IOtpService}.
+ */
+public interface IReactiveOtpService {
+    /**
+     * Generates an OTP for the recipient and sends it, unless a code sent
+     * within the resend window is still valid.
+     *
+     * @param recipient the recipient's email address
+     * @return whether a new code was sent and when the next one may be sent
+     */
+    Mono<IOtpService.OtpIssue> generateAndSendOtp(String recipient);
+
+    /**
+     * Validates the provided OTP for the recipient and consumes it if valid.
+     *
+     * @param recipient the recipient's email address
+     * @param otpCode   the OTP code to validate
+     * @return completes if the OTP is valid, errors otherwise
+     */
+    Mono<Void> validateOtp(String recipient, String otpCode);
+}
@@ -0,0 +1,45 @@
+package com.twine.reactive.service;
+
+import com.twine.security.AuthPrincipal;
+import com.twine.service.IRefreshTokenService;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link IRefreshTokenService}.
+ */
+public interface IReactiveRefreshTokenService {
+    /**
+     * Issues a refresh token that starts a new token family for the user.
+     *
+     * @param principal the user the token is issued to
+     * @return the raw refresh token to hand to the client
+     */
+    Mono<String> issue(AuthPrincipal principal);
+
+    /**
+     * Consumes the presented refresh token and issues its successor in the same
+     * family.
+     *
+     * @param refreshToken the raw refresh token presented by the client
+     * @return the user the token belongs to and the new raw refresh token
+     */
+    Mono<IRefreshTokenService.Rotation> rotate(String refreshToken);
+
+    /**
+     * Revokes the family of the presented refresh token if it belongs to the
+     * user. Unknown tokens are ignored.
+     *
+     * @param refreshToken the raw refresh token
+     * @param userId       the id of the user logging out
+     * @return completes once the family is revoked
+     */
+    Mono<Void> revoke(String refreshToken, Long userId);
+
+    /**
+     * Revokes every active refresh token of the user.
+     *
+     * @param userId the user id
+     * @return completes once the tokens are revoked
+     */
+    Mono<Void> revokeAll(Long userId);
+}
@@ -0,0 +1,245 @@
+package com.twine.reactive.service.impl;
+
+import com.twine.constants.AuthConstants;
+import com.twine.constants.ErrorConstants;
+import com.twine.dto.AuthenticationRequest;
+import com.twine.dto.AuthenticationResponse;
+import com.twine.dto.InitiateRegistrationRequest;
+import com.twine.dto.InitiateRegistrationResponse;
+import com.twine.dto.LogoutRequest;
+import com.twine.dto.RefreshTokenRequest;
+import com.twine.dto.RegisterRequest;
+import com.twine.entity.Role;
+import com.twine.exception.AuthenticationException;
+import com.twine.exception.ResourceAlreadyExistsException;
+import com.twine.exception.TooManyRequestsException;
+import com.twine.reactive.entity.AuthUser;
+import com.twine.reactive.repository.AuthUserRepository;
+import com.twine.reactive.security.ReactiveTokenRevocationService;
+import com.twine.reactive.security.ReactiveTokenVersionRegistry;
+import com.twine.reactive.service.IReactiveAuthenticationService;
+import com.twine.reactive.service.IReactiveOtpService;
+import com.twine.reactive.service.IReactiveRefreshTokenService;
+import com.twine.security.AuthPrincipal;
+import com.twine.security.JwtService;
+import com.twine.security.VerifiedToken;
+import com.twine.util.EmailNormalizer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Reactive counterpart of {@link com.twine.service.impl.AuthenticationServiceImpl}.
+ * <p>
+ * Every database call is an R2DBC statement and every password hash runs on
+ * the bounded password hashing scheduler, so no request ever blocks an event
+ * loop thread. When that scheduler's queue is full the request fails fast with
+ * a {@link TooManyRequestsException}, like the servlet application.
+ * </p>
+ */
+@Service
+public class ReactiveAuthenticationServiceImpl implements IReactiveAuthenticationService {
+
+    private final AuthUserRepository authUserRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler passwordHashingScheduler;
+    private final ReactiveAuthenticationManager authenticationManager;
+    private final JwtService jwtService;
+    private final IReactiveOtpService otpService;
+    private final IReactiveRefreshTokenService refreshTokenService;
+    private final ReactiveTokenRevocationService tokenRevocationService;
+    private final ReactiveTokenVersionRegistry tokenVersionRegistry;
+    private final long retryAfterSeconds;
+
+    public ReactiveAuthenticationServiceImpl(
+            AuthUserRepository authUserRepository,
+            PasswordEncoder passwordEncoder,
+            Scheduler passwordHashingScheduler,
+            ReactiveAuthenticationManager authenticationManager,
+            JwtService jwtService,
+            IReactiveOtpService otpService,
+            IReactiveRefreshTokenService refreshTokenService,
+            ReactiveTokenRevocationService tokenRevocationService,
+            ReactiveTokenVersionRegistry tokenVersionRegistry,
+            @Value("${" + AuthConstants.PASSWORD_HASHING_RETRY_AFTER_PROPERTY + ":1}") long retryAfterSeconds) {
+        this.authUserRepository = authUserRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingScheduler = passwordHashingScheduler;
+        this.authenticationManager = authenticationManager;
+        this.jwtService = jwtService;
+        this.otpService = otpService;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Initiates the registration process for a new user by validating the email and
+     * sending an OTP.
+     *
+     * @param request the registration initiation request
+     * @return whether a new OTP was sent and when another may be requested
+     */
+    @Override
+    public Mono<InitiateRegistrationResponse> initiateRegistration(InitiateRegistrationRequest request) {
+        return validateEmailNotExists(request.getEmail())
+                .then(otpService.generateAndSendOtp(request.getEmail()))
+                .map(issue -> InitiateRegistrationResponse.builder()
+                        .otpSent(issue.sent())
+                        .resendAvailableAt(issue.resendAvailableAt())
+                        .resendAfterSeconds(secondsUntil(issue.resendAvailableAt()))
+                        .build());
+    }
+
+    /**
+     * Completes the registration process by validating the OTP and creating the
+     * user. Not transactional: the password is hashed before any connection is
+     * taken, and the OTP check, which also counts a failed attempt, the user
+     * insert and the refresh token issue are each committed on their own.
+     *
+     * @param request the registration completion request
+     * @return the authentication response after successful registration
+     */
+    @Override
+    public Mono<AuthenticationResponse> completeRegistration(RegisterRequest request) {
+        return validateEmailNotExists(request.getEmail())
+                .then(Mono.defer(() -> encodePassword(request.getPassword())))
+                .flatMap(encodedPassword -> otpService.validateOtp(request.getEmail(), request.getOtp())
+                        .then(Mono.defer(() -> createUser(request, encodedPassword))))
+                .flatMap(authUser -> buildAuthenticationResponse(authUser.toPrincipal()));
+    }
+
+    /**
+     * Authenticates a user by email and password and returns a JWT token. The
+     * password is checked, and its hash upgraded if needed, on the password
+     * hashing scheduler.
+     *
+     * @param request the authentication request
+     * @return the authentication response after successful authentication
+     */
+    @Override
+    public Mono<AuthenticationResponse> authenticate(AuthenticationRequest request) {
+        if (request.getEmail() == null || request.getPassword() == null) {
+            return Mono.error(new AuthenticationException(ErrorConstants.UNSUPPORTED_AUTHENTICATION_METHOD));
+        }
+        return authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword()))
+                .onErrorMap(RejectedExecutionException.class, e -> tooManyRequests())
+                .onErrorMap(org.springframework.security.core.AuthenticationException.class,
+                        e -> new AuthenticationException(ErrorConstants.INVALID_EMAIL_PASSWORD))
+                .flatMap(authentication -> buildAuthenticationResponse((AuthPrincipal) authentication.getPrincipal()));
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a rotated refresh
+     * token, without re-checking the password.
+     *
+     * @param request the refresh token request
+     * @return the authentication response with the new token pair
+     */
+    @Override
+    public Mono<AuthenticationResponse> refresh(RefreshTokenRequest request) {
+        return refreshTokenService.rotate(request.getRefreshToken())
+                .map(rotation -> AuthenticationResponse.builder()
+                        .token(jwtService.generateToken(rotation.principal()))
+                        .refreshToken(rotation.refreshToken())
+                        .build());
+    }
+
+    /**
+     * Revokes the current access token and, if given, the refresh token family
+     * of the session.
+     *
+     * @param token   the verified access token of the current request
+     * @param request the logout request, or null
+     * @return completes once the session is revoked
+     */
+    @Override
+    @Transactional
+    public Mono<Void> logout(VerifiedToken token, LogoutRequest request) {
+        Mono<Void> revokeAccessToken = token.getJti() == null ? Mono.empty()
+                : tokenRevocationService.revoke(token.getJti(), token.getExpiresAt());
+        Mono<Void> revokeRefreshToken = request == null || request.getRefreshToken() == null ? Mono.empty()
+                : refreshTokenService.revoke(request.getRefreshToken(), token.getUserId());
+        return revokeAccessToken.then(revokeRefreshToken);
+    }
+
+    /**
+     * Revokes every session of the user by bumping the token version, which
+     * invalidates all issued access tokens, and revoking all refresh tokens.
+     *
+     * @param token the verified access token of the current request
+     * @return completes once all sessions are revoked
+     */
+    @Override
+    @Transactional
+    public Mono<Void> logoutAll(VerifiedToken token) {
+        return tokenVersionRegistry.invalidateTokens(token.getUserId())
+                .then(refreshTokenService.revokeAll(token.getUserId()));
+    }
+
+    // --- Private Helper Methods ---
+
+    private Mono<AuthenticationResponse> buildAuthenticationResponse(AuthPrincipal principal) {
+        return refreshTokenService.issue(principal)
+                .map(refreshToken -> AuthenticationResponse.builder()
+                        .token(jwtService.generateToken(principal))
+                        .refreshToken(refreshToken)
+                        .build());
+    }
+
+    private Mono<Void> validateEmailNotExists(String email) {
+        return authUserRepository.existsByEmailNormalized(EmailNormalizer.normalize(email))
+                .flatMap(exists -> exists
+                        ? Mono.error(new ResourceAlreadyExistsException(ErrorConstants.EMAIL_ALREADY_REGISTERED))
+                        : Mono.empty());
+    }
+
+    private Mono<String> encodePassword(String password) {
+        return Mono.fromCallable(() -> passwordEncoder.encode(password))
+                .subscribeOn(passwordHashingScheduler)
+                .onErrorMap(RejectedExecutionException.class, e -> tooManyRequests());
+    }
+
+    /**
+     * Inserts the user; a concurrent registration of the same email is
+     * rejected by the unique index as a conflict.
+     */
+    private Mono<AuthUser> createUser(RegisterRequest request, String encodedPassword) {
+        return authUserRepository.save(AuthUser.builder()
+                        .email(request.getEmail())
+                        .emailNormalized(EmailNormalizer.normalize(request.getEmail()))
+                        .password(encodedPassword)
+                        .role(Role.USER)
+                        .enabled(true)
+                        .build())
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new ResourceAlreadyExistsException(ErrorConstants.EMAIL_ALREADY_REGISTERED));
+    }
+
+    private TooManyRequestsException tooManyRequests() {
+        return new TooManyRequestsException(ErrorConstants.TOO_MANY_AUTHENTICATION_REQUESTS, retryAfterSeconds);
+    }
+
+    /**
+     * Returns the whole seconds a client must wait before the given time,
+     * rounded up so that a retry after that many seconds is never early, and
+     * at least one so that clients always back off.
+     */
+    private static long secondsUntil(LocalDateTime time) {
+        long millis = Duration.between(LocalDateTime.now(), time).toMillis();
+        return Math.max(1, (millis + 999) / 1000);
+    }
+}
@@ -0,0 +1,243 @@
+package com.twine.reactive.service.impl;
+
+import com.twine.constants.ErrorConstants;
+import com.twine.constants.OtpConstants;
+import com.twine.exception.AuthenticationException;
+import com.twine.reactive.entity.Otp;
+import com.twine.reactive.repository.OtpRepository;
+import com.twine.reactive.service.IReactiveOtpService;
+import com.twine.service.IOtpEmailSender;
+import com.twine.service.IOtpService.OtpIssue;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reactive counterpart of {@link com.twine.service.impl.EmailOtpServiceImpl}.
+ * <p>
+ * OTPs are stored in and verified against {@code otp_records} with the same
+ * statements as the JPA store, and initiation follows the same rules:
+ * idempotent within {@value OtpConstants#OTP_RESEND_INTERVAL_PROPERTY}, with
+ * concurrent initiations for a recipient coalesced onto the one in flight.
+ * </p>
+ * <p>
+ * Instead of the JPA outbox, the OTP email is handed off after the
+ * transaction commits: it is sent through the {@link IOtpEmailSender} on a
+ * small bounded scheduler, so the blocking SMTP exchange never runs on the
+ * event loop and the response does not wait for it. Failed sends are retried
+ * with the outbox backoff settings. Unlike the outbox, a send still pending
+ * when the node stops is lost; the user can request a new code once the
+ * resend window has passed.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ReactiveOtpServiceImpl implements IReactiveOtpService {
+    private final OtpRepository otpRepository;
+    private final IOtpEmailSender otpEmailSender;
+    private final TransactionalOperator transactionalOperator;
+    private final Duration resendInterval;
+    private final int maxAttempts;
+    private final Scheduler mailScheduler;
+    private final Retry mailRetry;
+    private final ConcurrentMap<String, Mono<OtpIssue>> inFlight = new ConcurrentHashMap<>();
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public ReactiveOtpServiceImpl(
+            OtpRepository otpRepository,
+            IOtpEmailSender otpEmailSender,
+            TransactionalOperator transactionalOperator,
+            @Value("${" + OtpConstants.OTP_RESEND_INTERVAL_PROPERTY + ":60000}") long resendIntervalMillis,
+            @Value("${" + OtpConstants.OTP_MAX_ATTEMPTS_PROPERTY + ":5}") int maxAttempts,
+            @Value("${" + OtpConstants.MAIL_POOL_SIZE_PROPERTY + ":4}") int mailThreads,
+            @Value("${" + OtpConstants.MAIL_DISPATCH_QUEUE_CAPACITY_PROPERTY + ":1000}") int mailQueueCapacity,
+            @Value("${" + OtpConstants.OUTBOX_MAX_ATTEMPTS_PROPERTY + ":5}") int mailMaxAttempts,
+            @Value("${" + OtpConstants.OUTBOX_INITIAL_BACKOFF_PROPERTY + ":2000}") long mailInitialBackoffMillis,
+            @Value("${" + OtpConstants.OUTBOX_MAX_BACKOFF_PROPERTY + ":60000}") long mailMaxBackoffMillis) {
+        this.otpRepository = otpRepository;
+        this.otpEmailSender = otpEmailSender;
+        this.transactionalOperator = transactionalOperator;
+        this.resendInterval = Duration.ofMillis(resendIntervalMillis);
+        this.maxAttempts = maxAttempts;
+        this.mailScheduler = Schedulers.newBoundedElastic(mailThreads, mailQueueCapacity, "otp-mail", 60, true);
+        this.mailRetry = Retry.backoff(Math.max(0, mailMaxAttempts - 1), Duration.ofMillis(mailInitialBackoffMillis))
+                .maxBackoff(Duration.ofMillis(mailMaxBackoffMillis));
+    }
+
+    /**
+     * Stores a new OTP and sends it once the insert has committed, unless the
+     * recipient's active code is still within the resend window. Joins an
+     * initiation already in flight for the same recipient instead of starting
+     * another. Completes without waiting for the email to be sent.
+     *
+     * @param recipientEmail the recipient's email address
+     * @return whether a new code was sent and when the next one may be sent
+     */
+    @Override
+    public Mono<OtpIssue> generateAndSendOtp(String recipientEmail) {
+        return Mono.defer(() -> {
+            Sinks.One<OtpIssue> sink = Sinks.one();
+            Mono<OtpIssue> flight = sink.asMono();
+            Mono<OtpIssue> leader = inFlight.putIfAbsent(recipientEmail, flight);
+            if (leader != null) {
+                log.debug("Joining OTP initiation already in flight for email: {}", recipientEmail);
+                return leader;
+            }
+            return issueOtp(recipientEmail)
+                    .as(transactionalOperator::transactional)
+                    .doOnNext(issued -> {
+                        if (issued.otpValue() != null) {
+                            dispatch(recipientEmail, issued.otpValue());
+                        }
+                    })
+                    .map(Issued::issue)
+                    .doOnNext(sink::tryEmitValue)
+                    .doOnError(sink::tryEmitError)
+                    .doFinally(signal -> {
+                        inFlight.remove(recipientEmail, flight);
+                        if (signal == SignalType.CANCEL) {
+                            sink.tryEmitError(new CancellationException("OTP initiation was cancelled"));
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Validates the provided OTP for the recipient and marks it as used if valid.
+     *
+     * @param recipientEmail the recipient's email address
+     * @param otpValue       the OTP code to validate
+     * @return completes if the OTP was consumed
+     * @throws AuthenticationException (as an error signal) if the OTP is invalid,
+     *                                 expired, or not found
+     */
+    @Override
+    public Mono<Void> validateOtp(String recipientEmail, String otpValue) {
+        return Mono.defer(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            return otpRepository.verifyLatest(recipientEmail, otpValue, now, maxAttempts)
+                    .switchIfEmpty(Mono.error(() -> new AuthenticationException(ErrorConstants.NO_VALID_OTP)))
+                    .flatMap(otp -> checkVerification(otp, otpValue, now, recipientEmail));
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        mailScheduler.dispose();
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Re-uses the active OTP if it was sent within the resend window, otherwise
+     * stores a new OTP. Runs inside a transaction.
+     *
+     * @param recipientEmail the recipient's email address
+     * @return the outcome, with the code to send if a new one was stored
+     */
+    private Mono<Issued> issueOtp(String recipientEmail) {
+        return Mono.defer(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            return otpRepository.findFirstByEmailOrderByExpiryTimeDesc(recipientEmail)
+                    .filter(otp -> !otp.isUsed() && otp.getExpiryTime().isAfter(now))
+                    .map(otp -> otp.getCreatedAt().plus(resendInterval))
+                    .filter(availableAt -> availableAt.isAfter(now))
+                    .map(availableAt -> {
+                        log.info("Active OTP for email: {} is within the resend window; not sending another",
+                                recipientEmail);
+                        return new Issued(new OtpIssue(false, availableAt), null);
+                    })
+                    .switchIfEmpty(Mono.defer(() -> storeOtp(recipientEmail, now)));
+        });
+    }
+
+    private Mono<Issued> storeOtp(String recipientEmail, LocalDateTime now) {
+        String otpValue = generateRandomOtp();
+        return otpRepository.save(Otp.builder()
+                        .email(recipientEmail)
+                        .otpCode(otpValue)
+                        .expiryTime(now.plusMinutes(OtpConstants.OTP_VALIDITY_MINUTES))
+                        .used(false)
+                        .failedAttempts(0)
+                        .createdAt(now)
+                        .build())
+                .thenReturn(new Issued(new OtpIssue(true, now.plus(resendInterval)), otpValue));
+    }
+
+    /**
+     * Sends the OTP email in the background, retrying failed sends with backoff.
+     *
+     * @param recipientEmail the recipient's email address
+     * @param otpValue       the OTP code
+     */
+    private void dispatch(String recipientEmail, String otpValue) {
+        Mono.fromRunnable(() -> {
+                    try {
+                        otpEmailSender.sendOtpEmail(recipientEmail, otpValue);
+                    } catch (MessagingException e) {
+                        throw new IllegalStateException(String.format(ErrorConstants.FAILED_TO_SEND_OTP_EMAIL,
+                                e.getMessage()), e);
+                    }
+                })
+                .subscribeOn(mailScheduler)
+                .retryWhen(mailRetry)
+                .subscribe(null, e -> log.error("Giving up on OTP email to {}", recipientEmail, e));
+    }
+
+    /**
+     * Maps the row returned by the verifying update to the outcome of the check.
+     */
+    private Mono<Void> checkVerification(Otp otp, String otpValue, LocalDateTime now, String recipientEmail) {
+        if (!otp.getExpiryTime().isAfter(now)) {
+            return Mono.error(new AuthenticationException(ErrorConstants.OTP_EXPIRED));
+        }
+        if (otp.getOtpCode().equals(otpValue)) {
+            log.info("OTP verified for email: {}", recipientEmail);
+            return Mono.empty();
+        }
+        if (otp.isUsed()) {
+            log.warn("OTP invalidated after {} failed attempts for email: {}", maxAttempts, recipientEmail);
+            return Mono.error(new AuthenticationException(ErrorConstants.OTP_ATTEMPTS_EXHAUSTED));
+        }
+        return Mono.error(new AuthenticationException(ErrorConstants.INVALID_OTP));
+    }
+
+    /**
+     * Generates a random OTP code using the configured length and character set.
+     *
+     * @return the generated OTP code
+     */
+    private String generateRandomOtp() {
+        StringBuilder otpBuilder = new StringBuilder(OtpConstants.OTP_LENGTH);
+        for (int i = 0; i < OtpConstants.OTP_LENGTH; i++) {
+            otpBuilder.append(OtpConstants.OTP_CHARS.charAt(secureRandom.nextInt(OtpConstants.OTP_CHARS.length())));
+        }
+        return otpBuilder.toString();
+    }
+
+    /**
+     * Outcome of an initiation together with the code to send.
+     *
+     * @param issue    the outcome returned to the caller
+     * @param otpValue the new code, or null if the active code was re-used
+     */
+    private record Issued(OtpIssue issue, String otpValue) {
+    }
+}
@@ -0,0 +1,193 @@
+package com.twine.reactive.service.impl;
+
+import com.twine.constants.AuthConstants;
+import com.twine.constants.ErrorConstants;
+import com.twine.exception.AuthenticationException;
+import com.twine.reactive.entity.RefreshToken;
+import com.twine.reactive.repository.AuthUserRepository;
+import com.twine.reactive.repository.RefreshTokenRepository;
+import com.twine.reactive.service.IReactiveRefreshTokenService;
+import com.twine.security.AuthPrincipal;
+import com.twine.service.IRefreshTokenService.Rotation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Reactive counterpart of {@link com.twine.service.impl.RefreshTokenServiceImpl},
+ * with the same token format, hashing, rotation and reuse detection.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveRefreshTokenServiceImpl implements IReactiveRefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AuthUserRepository authUserRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${" + AuthConstants.JWT_REFRESH_EXPIRATION_PROPERTY + "}")
+    private long refreshExpiration;
+
+    /**
+     * Issues a refresh token that starts a new token family for the user.
+     *
+     * @param principal the user the token is issued to
+     * @return the raw refresh token to hand to the client
+     */
+    @Override
+    public Mono<String> issue(AuthPrincipal principal) {
+        return issueInFamily(principal.id(), principal.tokenVersion(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * Consumes the presented refresh token and issues its successor in the same
+     * family.
+     *
+     * @param refreshToken the raw refresh token presented by the client
+     * @return the user the token belongs to and the new raw refresh token
+     */
+    @Override
+    @Transactional(noRollbackFor = AuthenticationException.class)
+    public Mono<Rotation> rotate(String refreshToken) {
+        return refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .switchIfEmpty(Mono.error(() -> new AuthenticationException(ErrorConstants.INVALID_REFRESH_TOKEN)))
+                .flatMap(storedToken -> consume(storedToken)
+                        .then(Mono.defer(() -> {
+                            validateRefreshTokenNotExpired(storedToken);
+                            return authUserRepository.findById(storedToken.getUserId());
+                        }))
+                        .filter(authUser -> authUser.isEnabled()
+                                && storedToken.getTokenVersion() == authUser.getTokenVersion())
+                        .switchIfEmpty(Mono.error(
+                                () -> new AuthenticationException(ErrorConstants.INVALID_REFRESH_TOKEN)))
+                        .flatMap(authUser -> issueInFamily(authUser.getId(), authUser.getTokenVersion(),
+                                storedToken.getFamilyId())
+                                .map(rawToken -> new Rotation(authUser.toPrincipal(), rawToken))));
+    }
+
+    /**
+     * Revokes the family of the presented refresh token if it belongs to the
+     * user. Unknown tokens are ignored.
+     *
+     * @param refreshToken the raw refresh token
+     * @param userId       the id of the user logging out
+     * @return completes once the family is revoked
+     */
+    @Override
+    public Mono<Void> revoke(String refreshToken, Long userId) {
+        return refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .filter(storedToken -> storedToken.getUserId().equals(userId))
+                .flatMap(storedToken -> refreshTokenRepository.revokeFamily(storedToken.getFamilyId()))
+                .then();
+    }
+
+    /**
+     * Revokes every active refresh token of the user.
+     *
+     * @param userId the user id
+     * @return completes once the tokens are revoked
+     */
+    @Override
+    public Mono<Void> revokeAll(Long userId) {
+        return refreshTokenRepository.revokeAllForUser(userId)
+                .doOnNext(revoked -> log.info("Revoked {} refresh token(s) for user id: {}", revoked, userId))
+                .then();
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * Marks the token as consumed, revoking its whole family if it had already
+     * been used.
+     *
+     * @param storedToken the presented refresh token
+     * @return completes if this call consumed the token
+     */
+    private Mono<Void> consume(RefreshToken storedToken) {
+        Mono<Integer> revoked = storedToken.isRevoked() ? Mono.just(0)
+                : refreshTokenRepository.revokeIfActive(storedToken.getId());
+        return revoked.flatMap(count -> count == 0 ? revokeFamilyOnReuse(storedToken) : Mono.empty());
+    }
+
+    /**
+     * Creates and stores a new refresh token in the given family.
+     *
+     * @param userId       the id of the user the token is issued to
+     * @param tokenVersion the user's current token version
+     * @param familyId     the token family id
+     * @return the raw refresh token
+     */
+    private Mono<String> issueInFamily(Long userId, int tokenVersion, String familyId) {
+        byte[] randomBytes = new byte[AuthConstants.REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(randomBytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+
+        return refreshTokenRepository.save(RefreshToken.builder()
+                        .tokenHash(hash(rawToken))
+                        .userId(userId)
+                        .familyId(familyId)
+                        .tokenVersion(tokenVersion)
+                        .expiresAt(LocalDateTime.now().plusNanos(refreshExpiration * 1_000_000L))
+                        .revoked(false)
+                        .createdAt(LocalDateTime.now())
+                        .build())
+                .thenReturn(rawToken);
+    }
+
+    /**
+     * Revokes every token of the family after an already used token was
+     * presented again.
+     *
+     * @param storedToken the reused refresh token
+     * @return always errors with an {@link AuthenticationException}
+     */
+    private Mono<Void> revokeFamilyOnReuse(RefreshToken storedToken) {
+        return refreshTokenRepository.revokeFamily(storedToken.getFamilyId())
+                .flatMap(revoked -> {
+                    log.warn("Refresh token reuse detected for family {}; revoked {} active token(s)",
+                            storedToken.getFamilyId(), revoked);
+                    return Mono.error(new AuthenticationException(ErrorConstants.REFRESH_TOKEN_REUSED));
+                });
+    }
+
+    /**
+     * Validates that the refresh token has not expired.
+     *
+     * @param storedToken the refresh token to check
+     * @throws AuthenticationException if the refresh token is expired
+     */
+    private void validateRefreshTokenNotExpired(RefreshToken storedToken) {
+        if (storedToken.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new AuthenticationException(ErrorConstants.REFRESH_TOKEN_EXPIRED);
+        }
+    }
+
+    /**
+     * Hashes a raw refresh token for storage and lookup.
+     *
+     * @param rawToken the raw refresh token
+     * @return the hex encoded SHA-256 hash
+     */
+    private String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.twine.service.impl;
+
+import com.twine.constants.ErrorConstants;
+import com.twine.constants.OtpConstants;
+import com.twine.exception.TooManyRequestsException;
+import com.twine.service.IEmailOutboxService;
+import com.twine.service.IOtpStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * OTP issue with the in-memory store, which must work without a transaction
+ * and only store a code whose email was accepted, so a rejected email does not
+ * hold back a retry.
+ */
+class EmailOtpServiceImplTest {
+
+    private static final String RECIPIENT = "otp@twine.com";
+
+    private IOtpStore otpStore;
+    private IEmailOutboxService emailOutboxService;
+    private TransactionTemplate transactionTemplate;
+    private EmailOtpServiceImpl otpService;
+
+    @BeforeEach
+    void setUp() {
+        otpStore = new InMemoryOtpStoreImpl(new SimpleMeterRegistry(), 5, 1000, 4, 1000, 64);
+        emailOutboxService = mock(IEmailOutboxService.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        otpService = new EmailOtpServiceImpl(otpStore, emailOutboxService, transactionTemplate,
+                OtpConstants.OTP_STORE_MEMORY, 60000);
+    }
+
+    @Test
+    void issuedCodeIsStoredWithoutATransaction() {
+        assertThat(otpService.generateAndSendOtp(RECIPIENT).sent()).isTrue();
+
+        assertThat(otpStore.findActiveIssuedAt(RECIPIENT)).isPresent();
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void rejectedEmailLeavesNoCodeBehind() {
+        doThrow(new TooManyRequestsException(ErrorConstants.TOO_MANY_PENDING_OTP_EMAILS, 1))
+                .when(emailOutboxService).enqueueOtpEmail(anyString(), anyString(), any(LocalDateTime.class));
+
+        assertThatThrownBy(() -> otpService.generateAndSendOtp(RECIPIENT))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        assertThat(otpStore.findActiveIssuedAt(RECIPIENT)).isEmpty();
+        reset(emailOutboxService);
+        assertThat(otpService.generateAndSendOtp(RECIPIENT).sent()).isTrue();
+    }
+}
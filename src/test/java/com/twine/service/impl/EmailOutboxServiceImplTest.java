@@ -0,0 +1,172 @@
+package com.twine.service.impl;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.twine.config.ThymeleafConfig;
+import com.twine.entity.EmailOutbox;
+import com.twine.entity.OutboxStatus;
+import com.twine.mail.OtpEmailRenderer;
+import com.twine.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Delivery state transitions of the outbox dispatcher against a GreenMail
+ * SMTP server: claim, send and mark sent; retry with backoff on failure; and
+ * dead-lettering once retrying is futile. The repository is mocked since its
+ * claim query is PostgreSQL specific.
+ */
+class EmailOutboxServiceImplTest {
+
+    private static final int BATCH_SIZE = 50;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF_MILLIS = 2000;
+    private static final String RECIPIENT = "outbox@twine.com";
+    private static final String OTP = "482913";
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxRepository = mock(EmailOutboxRepository.class);
+    }
+
+    @Test
+    void claimedMessageIsSentAndMarkedSent() throws Exception {
+        EmailOutboxServiceImpl outbox = outbox(GREEN_MAIL.getSmtp().getPort());
+        claim(message(1L, 1, LocalDateTime.now().plusMinutes(5)));
+
+        assertThat(outbox.dispatch()).isEqualTo(1);
+
+        MimeMessage[] received = GREEN_MAIL.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo(RECIPIENT);
+        assertThat(GreenMailUtil.getBody(received[0])).contains(OTP);
+        verify(emailOutboxRepository).markSent(eq(1L), any(LocalDateTime.class));
+        verify(emailOutboxRepository, never()).markRetry(anyLong(), any(), anyString());
+        verify(emailOutboxRepository, never()).markDead(anyLong(), anyString());
+    }
+
+    @Test
+    void failedSendIsRetriedWithExponentialBackoff() throws Exception {
+        EmailOutboxServiceImpl outbox = outbox(unusedPort());
+        claim(message(1L, 1, LocalDateTime.now().plusMinutes(5)),
+                message(2L, 2, LocalDateTime.now().plusMinutes(5)));
+
+        LocalDateTime before = LocalDateTime.now();
+        outbox.dispatch();
+        LocalDateTime after = LocalDateTime.now();
+
+        ArgumentCaptor<LocalDateTime> firstRetry = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> secondRetry = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(emailOutboxRepository).markRetry(eq(1L), firstRetry.capture(), anyString());
+        verify(emailOutboxRepository).markRetry(eq(2L), secondRetry.capture(), anyString());
+        assertBackoff(firstRetry.getValue(), before, after, INITIAL_BACKOFF_MILLIS);
+        assertBackoff(secondRetry.getValue(), before, after, 2 * INITIAL_BACKOFF_MILLIS);
+        verify(emailOutboxRepository, never()).markSent(anyLong(), any());
+        verify(emailOutboxRepository, never()).markDead(anyLong(), anyString());
+        assertThat(GREEN_MAIL.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    void messageIsDeadLetteredAfterItsLastAttempt() throws Exception {
+        EmailOutboxServiceImpl outbox = outbox(unusedPort());
+        claim(message(1L, MAX_ATTEMPTS, LocalDateTime.now().plusMinutes(5)));
+
+        outbox.dispatch();
+
+        verify(emailOutboxRepository).markDead(eq(1L), anyString());
+        verify(emailOutboxRepository, never()).markRetry(anyLong(), any(), anyString());
+    }
+
+    @Test
+    void messageIsDeadLetteredWhenTheRetryWouldOutliveTheOtp() throws Exception {
+        EmailOutboxServiceImpl outbox = outbox(unusedPort());
+        claim(message(1L, 1, LocalDateTime.now().plusNanos(Duration.ofMillis(500).toNanos())));
+
+        outbox.dispatch();
+
+        verify(emailOutboxRepository).markDead(eq(1L), anyString());
+        verify(emailOutboxRepository, never()).markRetry(anyLong(), any(), anyString());
+    }
+
+    // --- Private Helper Methods ---
+
+    private EmailOutboxServiceImpl outbox(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        mailSender.setPort(smtpPort);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "1000");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SmtpOtpEmailSenderImpl otpEmailSender = new SmtpOtpEmailSenderImpl(mailSender,
+                new OtpEmailRenderer(mailSender, new ThymeleafConfig().emailTemplateEngine(), meterRegistry),
+                meterRegistry);
+        return new EmailOutboxServiceImpl(emailOutboxRepository, otpEmailSender, meterRegistry,
+                BATCH_SIZE, MAX_ATTEMPTS, INITIAL_BACKOFF_MILLIS, 60000, 120000, 86400000);
+    }
+
+    private void claim(EmailOutbox... messages) {
+        when(emailOutboxRepository.claimBatch(any(), any(), eq(BATCH_SIZE)))
+                .thenReturn(List.of(messages))
+                .thenReturn(List.of());
+    }
+
+    /**
+     * Builds a message as returned by a claim, which has already counted the
+     * attempt being made.
+     */
+    private static EmailOutbox message(Long id, int attempts, LocalDateTime expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        return EmailOutbox.builder()
+                .id(id)
+                .recipient(RECIPIENT)
+                .otpCode(OTP)
+                .status(OutboxStatus.SENDING)
+                .attempts(attempts)
+                .nextAttemptAt(now)
+                .expiresAt(expiresAt)
+                .createdAt(now)
+                .build();
+    }
+
+    /**
+     * Asserts that a retry is due within the backoff window: the full delay
+     * minus up to 50% jitter.
+     */
+    private static void assertBackoff(LocalDateTime nextAttemptAt, LocalDateTime before, LocalDateTime after,
+            long backoffMillis) {
+        assertThat(nextAttemptAt).isAfterOrEqualTo(before.plus(Duration.ofMillis(backoffMillis / 2)));
+        assertThat(nextAttemptAt).isBeforeOrEqualTo(after.plus(Duration.ofMillis(backoffMillis)));
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.twine.service.impl;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.twine.config.ThymeleafConfig;
+import com.twine.exception.TooManyRequestsException;
+import com.twine.mail.OtpEmailRenderer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Delivery through the in-memory outbox against a GreenMail SMTP server:
+ * queued messages are sent on dispatch, failed ones wait for their backoff,
+ * and a full queue rejects new messages.
+ */
+class InMemoryEmailOutboxServiceImplTest {
+
+    private static final int CAPACITY = 2;
+    private static final String RECIPIENT = "memory@twine.com";
+    private static final String OTP = "731904";
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Test
+    void queuedMessageIsSentOnDispatch() throws Exception {
+        InMemoryEmailOutboxServiceImpl outbox = outbox(GREEN_MAIL.getSmtp().getPort());
+        outbox.enqueueOtpEmail(RECIPIENT, OTP, LocalDateTime.now().plusMinutes(5));
+
+        assertThat(outbox.dispatch()).isEqualTo(1);
+
+        MimeMessage[] received = GREEN_MAIL.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo(RECIPIENT);
+        assertThat(GreenMailUtil.getBody(received[0])).contains(OTP);
+        assertThat(outbox.dispatch()).isZero();
+    }
+
+    @Test
+    void failedSendWaitsForItsBackoff() throws Exception {
+        InMemoryEmailOutboxServiceImpl outbox = outbox(unusedPort());
+        outbox.enqueueOtpEmail(RECIPIENT, OTP, LocalDateTime.now().plusMinutes(5));
+
+        assertThat(outbox.dispatch()).isEqualTo(1);
+        assertThat(outbox.dispatch()).isZero();
+    }
+
+    @Test
+    void fullQueueRejectsNewMessages() throws Exception {
+        InMemoryEmailOutboxServiceImpl outbox = outbox(unusedPort());
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(5);
+        outbox.enqueueOtpEmail("first@twine.com", OTP, expiresAt);
+        outbox.enqueueOtpEmail("second@twine.com", OTP, expiresAt);
+
+        assertThatThrownBy(() -> outbox.enqueueOtpEmail(RECIPIENT, OTP, expiresAt))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    // --- Private Helper Methods ---
+
+    private static InMemoryEmailOutboxServiceImpl outbox(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        mailSender.setPort(smtpPort);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "1000");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SmtpOtpEmailSenderImpl otpEmailSender = new SmtpOtpEmailSenderImpl(mailSender,
+                new OtpEmailRenderer(mailSender, new ThymeleafConfig().emailTemplateEngine(), meterRegistry),
+                meterRegistry);
+        return new InMemoryEmailOutboxServiceImpl(otpEmailSender, meterRegistry, CAPACITY, 50, 3, 2000, 60000, 1000);
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}